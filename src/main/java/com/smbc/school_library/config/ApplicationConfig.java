@@ -1,7 +1,11 @@
 package com.smbc.school_library.config;
 
 import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.service.MemberSecurityService;
+import com.smbc.school_library.util.BoundedPasswordEncoder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,12 +14,28 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
     private final MemberRepository memberRepository;
+    private final MemberSecurityService memberSecurityService;
+
+    @Value("${security.password.target-hash-millis:250}")
+    private long targetHashMillis;
+
+    @Value("${security.password.min-strength:10}")
+    private int minStrength;
+
+    @Value("${security.password.max-strength:14}")
+    private int maxStrength;
+
+    @Value("${security.password.threads:0}")
+    private int hashThreads;
+
+    @Value("${security.password.queue-capacity:64}")
+    private int hashQueueCapacity;
 
     @Bean
     UserDetailsService userDetailsService() {
@@ -24,8 +44,11 @@ public class ApplicationConfig {
     }
 
     @Bean
-    BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    BoundedPasswordEncoder passwordEncoder() {
+        int strength = BoundedPasswordEncoder.calibrateStrength(targetHashMillis, minStrength, maxStrength);
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        log.info("Password hashing uses BCrypt strength {} on {} threads with a queue of {}", strength, threads, hashQueueCapacity);
+        return new BoundedPasswordEncoder(strength, threads, hashQueueCapacity);
     }
 
     @Bean
@@ -38,6 +61,7 @@ public class ApplicationConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService());
 
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(memberSecurityService);
 
         return authProvider;
     }
@@ -1,16 +1,19 @@
 package com.smbc.school_library.config;
 
 import com.smbc.school_library.service.JwtService;
+import com.smbc.school_library.model.MemberPrincipal;
+import com.smbc.school_library.service.MemberPrincipalService;
+import com.smbc.school_library.service.MemberRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,15 +26,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final MemberPrincipalService memberPrincipalService;
+    private final MemberRevocationService memberRevocationService;
+    private final boolean stateless;
 
     public JwtAuthenticationFilter(
             JwtService jwtService,
-            UserDetailsService userDetailsService,
-            HandlerExceptionResolver handlerExceptionResolver
+            MemberPrincipalService memberPrincipalService,
+            MemberRevocationService memberRevocationService,
+            HandlerExceptionResolver handlerExceptionResolver,
+            @Value("${security.jwt.stateless:false}") boolean stateless
     ) {
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.memberPrincipalService = memberPrincipalService;
+        this.memberRevocationService = memberRevocationService;
+        this.stateless = stateless;
         this.handlerExceptionResolver = handlerExceptionResolver;
     }
 
@@ -50,14 +59,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
+            final JwtService.VerifiedToken token = jwtService.verify(jwt);
+            final String userEmail = token.subject();
 
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
             if (userEmail != null && authentication == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                UserDetails userDetails = resolvePrincipal(token, userEmail);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (userDetails != null && jwtService.isTokenValid(token, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -74,4 +84,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             handlerExceptionResolver.resolveException(request, response, null, exception);
         }
     }
+
+    private UserDetails resolvePrincipal(JwtService.VerifiedToken token, String userEmail) {
+        Long memberId = token.memberId();
+        if (!stateless || memberId == null) {
+            return memberPrincipalService.loadPrincipal(userEmail);
+        }
+        if (!token.active() || memberRevocationService.isRevoked(memberId)) {
+            return null;
+        }
+        return new MemberPrincipal(memberId, userEmail, true);
+    }
 }
@@ -0,0 +1,24 @@
+package com.smbc.school_library.controller;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.response.CacheRegionStatsDto;
+import com.smbc.school_library.service.CacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+public class CacheController {
+    private final CacheService cacheService;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<CacheRegionStatsDto>>> getCacheStatistics() {
+        return ResponseEntity.ok(cacheService.getStatistics());
+    }
+}
@@ -5,12 +5,31 @@ import com.smbc.school_library.dto.request.AddCatalogRequestDto;
 import com.smbc.school_library.dto.request.EditCatalogRequestDto;
 import com.smbc.school_library.dto.request.PageRequestDto;
 import com.smbc.school_library.dto.response.CatalogResponseDto;
+import com.smbc.school_library.dto.response.ImportResultDto;
+import com.smbc.school_library.dto.response.SuggestionResponseDto;
+import com.smbc.school_library.service.CatalogImportService;
+import com.smbc.school_library.service.CatalogResponseCacheService;
+import com.smbc.school_library.service.CatalogSearchService;
 import com.smbc.school_library.service.CatalogService;
+import com.smbc.school_library.service.ExportService;
+import com.smbc.school_library.util.DataFormat;
+import com.smbc.school_library.util.ExportResponses;
+import com.smbc.school_library.util.RowCountCache;
+import com.smbc.school_library.util.TableVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -18,10 +37,57 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CatalogController {
     private final CatalogService catalogService;
+    private final CatalogSearchService catalogSearchService;
+    private final CatalogImportService catalogImportService;
+    private final ExportService exportService;
+    private final CatalogResponseCacheService catalogResponseCacheService;
+    private final TableVersions tableVersions;
+    private final RowCountCache rowCountCache;
+
+    @Value("${app.export.timeout:1800000}")
+    private long exportTimeout;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CatalogResponseDto>>> getCatalogs(@Valid @ModelAttribute PageRequestDto pageRequest) {
-        return ResponseEntity.ok(catalogService.getCatalogs(pageRequest));
+    public ResponseEntity<byte[]> getCatalogs(@Valid @ModelAttribute PageRequestDto pageRequest,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                              WebRequest webRequest) {
+        boolean acceptsGzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = tableVersions.etag(TableVersions.CATALOG) + countVersion(pageRequest) + (acceptsGzip ? "-gzip" : "");
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        CatalogResponseCacheService.SerializedResponse response = catalogResponseCacheService.getCatalogs(pageRequest, acceptsGzip);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!response.stale()) {
+            builder.eTag(etag);
+        }
+        if (response.gzipped()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(response.body());
+    }
+
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportCatalogs(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) {
+        DataFormat dataFormat = DataFormat.fromExtension(format);
+        return ExportResponses.stream(response, dataFormat, "catalogs", exportTimeout, out -> exportService.exportCatalogs(dataFormat, out));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<CatalogResponseDto>>> searchCatalogs(@RequestParam String q, @RequestParam(defaultValue = "false") boolean fuzzy, @Valid @ModelAttribute PageRequestDto pageRequest) {
+        return ResponseEntity.ok(catalogSearchService.search(q, fuzzy, pageRequest));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<SuggestionResponseDto>>> suggestCatalogs(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(catalogSearchService.suggest(prefix, limit));
+    }
+
+    @GetMapping("/isbn/{isbn}")
+    public ResponseEntity<ApiResponse<CatalogResponseDto>> getCatalogByIsbn(@PathVariable String isbn) {
+        return ResponseEntity.ok(catalogService.getCatalogByIsbn(isbn));
     }
 
     @PostMapping
@@ -29,6 +95,11 @@ public class CatalogController {
         return ResponseEntity.ok(catalogService.addCatalog(request));
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ApiResponse<ImportResultDto>> importCatalogs(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(catalogImportService.importCatalogs(request.getInputStream(), DataFormat.fromContentType(request.getContentType())));
+    }
+
     @DeleteMapping("/{catalogId}")
     public ResponseEntity<ApiResponse<String>> deleteCatalog(@PathVariable Long catalogId) {
         return ResponseEntity.ok(catalogService.deleteCatalog(catalogId));
@@ -38,4 +109,8 @@ public class CatalogController {
     public ResponseEntity<ApiResponse<CatalogResponseDto>> editCatalog(@PathVariable Long catalogId, @Valid @RequestBody EditCatalogRequestDto request) {
         return ResponseEntity.ok(catalogService.editCatalog(catalogId, request));
     }
+
+    private String countVersion(PageRequestDto request) {
+        return request.getCount() == PageRequestDto.CountMode.ESTIMATED ? "-c" + rowCountCache.version() : "";
+    }
 }
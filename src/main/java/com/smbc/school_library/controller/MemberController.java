@@ -3,13 +3,26 @@ package com.smbc.school_library.controller;
 import com.smbc.school_library.dto.ApiResponse;
 import com.smbc.school_library.dto.request.EditMemberRequestDto;
 import com.smbc.school_library.dto.request.PageRequestDto;
+import com.smbc.school_library.dto.response.ImportResultDto;
 import com.smbc.school_library.dto.response.MemberResponseDto;
+import com.smbc.school_library.dto.response.RentResponseDto;
+import com.smbc.school_library.model.RentStatus;
+import com.smbc.school_library.service.ExportService;
+import com.smbc.school_library.service.MemberImportService;
 import com.smbc.school_library.service.MemberService;
+import com.smbc.school_library.service.RentService;
+import com.smbc.school_library.util.DataFormat;
+import com.smbc.school_library.util.ExportResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -17,12 +30,34 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MemberController {
     public final MemberService memberService;
+    private final ExportService exportService;
+    private final MemberImportService memberImportService;
+    private final RentService rentService;
+
+    @Value("${app.export.timeout:1800000}")
+    private long exportTimeout;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<MemberResponseDto>>> getMembers(@Valid @ModelAttribute PageRequestDto pageRequest) {
         return ResponseEntity.ok(memberService.getMembers(pageRequest));
     }
 
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportMembers(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) {
+        DataFormat dataFormat = DataFormat.fromExtension(format);
+        return ExportResponses.stream(response, dataFormat, "members", exportTimeout, out -> exportService.exportMembers(dataFormat, out));
+    }
+
+    @GetMapping("/{memberId}/rents")
+    public ResponseEntity<ApiResponse<List<RentResponseDto>>> getMemberRents(@PathVariable Long memberId, @RequestParam(defaultValue = "ALL") RentStatus status, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int pageSize) {
+        return ResponseEntity.ok(rentService.getMemberRents(memberId, status, cursor, pageSize));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<ImportResultDto>> importMembers(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(memberImportService.importMembers(request.getInputStream()));
+    }
+
     @DeleteMapping("/{memberId}")
     public ResponseEntity<ApiResponse<String>> deleteMember(@PathVariable Long memberId) {
         return ResponseEntity.ok(memberService.deleteMember(memberId));
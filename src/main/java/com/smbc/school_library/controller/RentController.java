@@ -5,11 +5,21 @@ import com.smbc.school_library.dto.request.PageRequestDto;
 import com.smbc.school_library.dto.request.RentRequestDto;
 import com.smbc.school_library.dto.response.CatalogResponseDto;
 import com.smbc.school_library.dto.response.RentResponseDto;
+import com.smbc.school_library.service.ExportService;
 import com.smbc.school_library.service.RentService;
+import com.smbc.school_library.util.DataFormat;
+import com.smbc.school_library.util.ExportResponses;
+import com.smbc.school_library.util.RowCountCache;
+import com.smbc.school_library.util.TableVersions;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import java.util.List;
 
@@ -18,10 +28,37 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RentController {
     private final RentService rentService;
+    private final ExportService exportService;
+    private final TableVersions tableVersions;
+    private final RowCountCache rowCountCache;
+
+    @Value("${app.export.timeout:1800000}")
+    private long exportTimeout;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<RentResponseDto>>> getRents(@Valid @ModelAttribute PageRequestDto request) {
-        return ResponseEntity.ok(rentService.getRents(request));
+    public ResponseEntity<ApiResponse<List<RentResponseDto>>> getRents(@Valid @ModelAttribute PageRequestDto request, WebRequest webRequest) {
+        String etag = tableVersions.etag(TableVersions.RENT, TableVersions.MEMBER, TableVersions.CATALOG) + countVersion(request);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(rentService.getRents(request));
+    }
+
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportRents(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) {
+        DataFormat dataFormat = DataFormat.fromExtension(format);
+        return ExportResponses.stream(response, dataFormat, "rents", exportTimeout, out -> exportService.exportRents(dataFormat, out));
+    }
+
+    @GetMapping("/overdue")
+    public ResponseEntity<ApiResponse<List<RentResponseDto>>> getOverdueRents(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int pageSize) {
+        return ResponseEntity.ok(rentService.getOverdueRents(cursor, pageSize));
+    }
+
+    @GetMapping("/overdue/export")
+    public WebAsyncTask<Void> exportOverdueRents(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) {
+        DataFormat dataFormat = DataFormat.fromExtension(format);
+        return ExportResponses.stream(response, dataFormat, "overdue-rents", exportTimeout, out -> exportService.exportOverdueRents(dataFormat, out));
     }
 
     @PostMapping
@@ -33,4 +70,8 @@ public class RentController {
     public ResponseEntity<ApiResponse<RentResponseDto>> returnBook(@PathVariable Long rentId) {
         return ResponseEntity.ok(rentService.returnBook(rentId));
     }
+
+    private String countVersion(PageRequestDto request) {
+        return request.getCount() == PageRequestDto.CountMode.ESTIMATED ? "-c" + rowCountCache.version() : "";
+    }
 }
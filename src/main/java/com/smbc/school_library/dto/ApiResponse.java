@@ -1,10 +1,13 @@
 package com.smbc.school_library.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 
+import java.time.Instant;
+
 @Data
 @Builder
 public class ApiResponse<T> {
@@ -13,6 +16,10 @@ public class ApiResponse<T> {
     private String message;
     private T data;
     private PaginationDto pagination;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stale;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant asOf;
 
     public static <T> ApiResponse<T> success(T data, String message) {
         return ApiResponse.<T>builder()
@@ -48,4 +55,16 @@ public class ApiResponse<T> {
                 .pagination(pagination)
                 .build();
     }
+
+    public ApiResponse<T> asStale(Instant asOf) {
+        return ApiResponse.<T>builder()
+                .status(status)
+                .code(code)
+                .message(message)
+                .data(data)
+                .pagination(pagination)
+                .stale(true)
+                .asOf(asOf)
+                .build();
+    }
 }
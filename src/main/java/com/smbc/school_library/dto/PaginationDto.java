@@ -1,5 +1,6 @@
 package com.smbc.school_library.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,9 +10,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PaginationDto {
-    private int currentPage;
-    private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    private Integer currentPage;
+    private Integer pageSize;
+    private Long totalElements;
+    private Integer totalPages;
+    private Boolean totalExact;
+    private Boolean hasNext;
+    private String nextCursor;
 }
@@ -1,5 +1,6 @@
 package com.smbc.school_library.dto.request;
 
+import com.smbc.school_library.validation.Isbn;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -17,6 +18,7 @@ public class EditCatalogRequestDto {
     @NotBlank
     private String author;
     @NotBlank
+    @Isbn
     private String isbn;
     @NotBlank
     private String publisher;
@@ -15,4 +15,26 @@ public class PageRequestDto {
     private Integer page;
     @NotNull
     private Integer pageSize;
+    private PageMode mode;
+    private String cursor;
+    private CountMode count;
+
+    public boolean isCursorMode() {
+        return mode == PageMode.CURSOR;
+    }
+
+    public boolean isExactCount() {
+        return count == null || count == CountMode.EXACT;
+    }
+
+    public enum PageMode {
+        OFFSET,
+        CURSOR
+    }
+
+    public enum CountMode {
+        EXACT,
+        ESTIMATED,
+        NONE
+    }
 }
@@ -0,0 +1,16 @@
+package com.smbc.school_library.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ImportResultDto {
+    private long accepted;
+    private long rejected;
+    private long durationMs;
+    private double rowsPerSecond;
+    private List<String> errors;
+}
@@ -1,10 +1,12 @@
 package com.smbc.school_library.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class MemberResponseDto {
     private Long id;
     private String fullName;
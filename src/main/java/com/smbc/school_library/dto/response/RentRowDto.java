@@ -0,0 +1,29 @@
+package com.smbc.school_library.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentRowDto {
+    private Long id;
+    private Long memberId;
+    private String memberName;
+    private String memberEmail;
+    private Long catalogId;
+    private String catalogTitle;
+    private String catalogAuthor;
+    private String catalogIsbn;
+    private String catalogPublisher;
+    private Integer catalogTotalQty;
+    private Integer catalogAvailableQty;
+    private LocalDate rentDate;
+    private LocalDate dueDate;
+    private LocalDate returnDate;
+}
@@ -0,0 +1,12 @@
+package com.smbc.school_library.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SuggestionResponseDto {
+    private Long id;
+    private String text;
+    private String field;
+}
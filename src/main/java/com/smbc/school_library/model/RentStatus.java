@@ -0,0 +1,7 @@
+package com.smbc.school_library.model;
+
+public enum RentStatus {
+    ALL,
+    ACTIVE,
+    RETURNED
+}
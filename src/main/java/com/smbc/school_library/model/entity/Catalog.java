@@ -4,7 +4,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -18,13 +21,16 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @SQLRestriction("is_deleted = false")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog")
 public class Catalog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catalog_seq")
+    @SequenceGenerator(name = "catalog_seq", sequenceName = "catalog_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String author;
     private String isbn;
+    private String normalizedIsbn;
     private String publisher;
     private Integer totalQty;
     private Integer availableQty;
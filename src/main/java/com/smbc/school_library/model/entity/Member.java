@@ -2,6 +2,8 @@ package com.smbc.school_library.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -21,9 +23,11 @@ import java.util.List;
 @AllArgsConstructor
 @RequiredArgsConstructor
 @SQLRestriction("is_deleted = false")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
 public class Member implements UserDetails{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     private Long id;
     @Column(nullable = false)
     private String fullName;
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Setter
 public class Rent {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rent_seq")
+    @SequenceGenerator(name = "rent_seq", sequenceName = "rent_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,7 @@
+package com.smbc.school_library.repository;
+
+public interface CatalogInventoryRepository {
+    int reserveCopy(Long catalogId);
+
+    int releaseCopy(Long catalogId);
+}
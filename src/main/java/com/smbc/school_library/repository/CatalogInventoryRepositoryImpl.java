@@ -0,0 +1,40 @@
+package com.smbc.school_library.repository;
+
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.util.TransactionUtil;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// A bulk JPQL update makes Hibernate drop the whole catalog second-level cache region, so the
+// availability updates go over JDBC and evict only the catalog they touched.
+@RequiredArgsConstructor
+public class CatalogInventoryRepositoryImpl implements CatalogInventoryRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public int reserveCopy(Long catalogId) {
+        return updateAvailability(catalogId, "UPDATE catalog SET available_qty = available_qty - 1, updated_at = LOCALTIMESTAMP " +
+                "WHERE id = ? AND available_qty > 0 AND is_deleted = false");
+    }
+
+    @Override
+    public int releaseCopy(Long catalogId) {
+        return updateAvailability(catalogId, "UPDATE catalog SET available_qty = available_qty + 1, updated_at = LOCALTIMESTAMP " +
+                "WHERE id = ? AND available_qty < total_qty AND is_deleted = false");
+    }
+
+    private int updateAvailability(Long catalogId, String sql) {
+        int updated = jdbcTemplate.update(sql, catalogId);
+        if (updated > 0) {
+            evict(catalogId);
+            TransactionUtil.afterCommit(() -> evict(catalogId));
+        }
+        return updated;
+    }
+
+    private void evict(Long catalogId) {
+        entityManagerFactory.getCache().evict(Catalog.class, catalogId);
+    }
+}
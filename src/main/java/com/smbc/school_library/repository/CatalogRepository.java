@@ -1,9 +1,41 @@
 package com.smbc.school_library.repository;
 
+import com.smbc.school_library.dto.response.CatalogResponseDto;
 import com.smbc.school_library.model.entity.Catalog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
 @Repository
-public interface CatalogRepository extends JpaRepository<Catalog, Long> {
+public interface CatalogRepository extends JpaRepository<Catalog, Long>, CatalogInventoryRepository {
+    Optional<Catalog> findByNormalizedIsbn(String normalizedIsbn);
+
+    boolean existsByNormalizedIsbn(String normalizedIsbn);
+
+    boolean existsByNormalizedIsbnAndIdNot(String normalizedIsbn, Long id);
+
+    @Query("SELECT c.normalizedIsbn FROM Catalog c WHERE c.normalizedIsbn IN :normalizedIsbns")
+    Set<String> findExistingNormalizedIsbns(@Param("normalizedIsbns") Collection<String> normalizedIsbns);
+
+    List<Catalog> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT c FROM Catalog c")
+    Slice<Catalog> findAllAsSlice(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.smbc.school_library.dto.response.CatalogResponseDto(c.id, c.title, c.author, c.isbn, " +
+            "c.publisher, c.totalQty, c.availableQty) FROM Catalog c ORDER BY c.id")
+    Stream<CatalogResponseDto> streamAllForExport();
 }
@@ -1,12 +1,41 @@
 package com.smbc.school_library.repository;
 
+import com.smbc.school_library.dto.response.MemberResponseDto;
 import com.smbc.school_library.model.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Member> findByEmail(String email);
+
+    List<Member> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT m FROM Member m")
+    Slice<Member> findAllAsSlice(Pageable pageable);
+
+    @Query(value = "SELECT email FROM member WHERE email IN (:emails)", nativeQuery = true)
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query(value = "SELECT id FROM member WHERE is_deleted = true OR is_active = false", nativeQuery = true)
+    List<Long> findRevokedMemberIds();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.smbc.school_library.dto.response.MemberResponseDto(m.id, m.fullName, m.email) " +
+            "FROM Member m ORDER BY m.id")
+    Stream<MemberResponseDto> streamAllForExport();
 }
@@ -1,9 +1,70 @@
 package com.smbc.school_library.repository;
 
+import com.smbc.school_library.dto.response.RentRowDto;
 import com.smbc.school_library.model.entity.Rent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface RentRepository extends JpaRepository<Rent, Long> {
+    @Override
+    @EntityGraph(attributePaths = {"member", "catalog"})
+    Page<Rent> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"member", "catalog"})
+    List<Rent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"member", "catalog"})
+    @Query("SELECT r FROM Rent r")
+    Slice<Rent> findAllAsSlice(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.smbc.school_library.dto.response.RentRowDto(r.id, m.id, m.fullName, m.email, c.id, c.title, " +
+            "c.author, c.isbn, c.publisher, c.totalQty, c.availableQty, r.rentDate, r.dueDate, r.returnDate) " +
+            "FROM Rent r JOIN r.member m JOIN r.catalog c ORDER BY r.id")
+    Stream<RentRowDto> streamAllForExport();
+
+    @EntityGraph(attributePaths = {"member", "catalog"})
+    @Query("SELECT r FROM Rent r WHERE r.returnDate IS NULL AND r.dueDate < :today " +
+            "AND (r.dueDate > :afterDueDate OR (r.dueDate = :afterDueDate AND r.id > :afterId)) " +
+            "ORDER BY r.dueDate ASC, r.id ASC")
+    List<Rent> findOverdue(@Param("today") LocalDate today, @Param("afterDueDate") LocalDate afterDueDate,
+                           @Param("afterId") Long afterId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.smbc.school_library.dto.response.RentRowDto(r.id, m.id, m.fullName, m.email, c.id, c.title, " +
+            "c.author, c.isbn, c.publisher, c.totalQty, c.availableQty, r.rentDate, r.dueDate, r.returnDate) " +
+            "FROM Rent r JOIN r.member m JOIN r.catalog c " +
+            "WHERE r.returnDate IS NULL AND r.dueDate < :today ORDER BY r.dueDate ASC, r.id ASC")
+    Stream<RentRowDto> streamOverdue(@Param("today") LocalDate today);
+
+    @Query("SELECT new com.smbc.school_library.dto.response.RentRowDto(r.id, m.id, m.fullName, m.email, c.id, c.title, " +
+            "c.author, c.isbn, c.publisher, c.totalQty, c.availableQty, r.rentDate, r.dueDate, r.returnDate) " +
+            "FROM Rent r JOIN r.member m JOIN r.catalog c WHERE m.id = :memberId " +
+            "AND ((:includeActive = true AND r.returnDate IS NULL) OR (:includeReturned = true AND r.returnDate IS NOT NULL)) " +
+            "AND (r.rentDate < :beforeRentDate OR (r.rentDate = :beforeRentDate AND r.id < :beforeId)) " +
+            "ORDER BY r.rentDate DESC, r.id DESC")
+    List<RentRowDto> findMemberRents(@Param("memberId") Long memberId, @Param("includeActive") boolean includeActive,
+                                     @Param("includeReturned") boolean includeReturned,
+                                     @Param("beforeRentDate") LocalDate beforeRentDate, @Param("beforeId") Long beforeId,
+                                     Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Rent r SET r.returnDate = :returnDate, r.updatedAt = LOCAL DATETIME " +
+            "WHERE r.id = :rentId AND r.returnDate IS NULL")
+    int markReturned(@Param("rentId") Long rentId, @Param("returnDate") LocalDate returnDate);
 }
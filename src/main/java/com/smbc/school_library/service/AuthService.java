@@ -7,6 +7,7 @@ import com.smbc.school_library.dto.response.LoginResponseDto;
 import com.smbc.school_library.exception.ResourceNotFoundException;
 import com.smbc.school_library.model.entity.Member;
 import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.util.TableVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +26,7 @@ public class AuthService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final TableVersions tableVersions;
 
     public ApiResponse<String> signup(RegisterMemberDto request) {
         Optional<Member> optionalMember = memberRepository.findByEmail(request.getEmail());
@@ -40,6 +42,7 @@ public class AuthService {
                 .build();
 
         memberRepository.save(member);
+        tableVersions.bump(TableVersions.MEMBER);
         return ApiResponse.created("Member registered successfully");
     }
 
@@ -0,0 +1,54 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.response.CacheRegionStatsDto;
+import com.smbc.school_library.util.TransactionUtil;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CacheService {
+    private static final List<String> ENTITY_REGIONS = List.of("catalog", "member");
+    private static final String QUERY_REGION = "default-query-results-region";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictAfterCommit(Class<?> entityClass, Object id) {
+        TransactionUtil.afterCommit(() -> entityManagerFactory.getCache().evict(entityClass, id));
+    }
+
+    public ApiResponse<List<CacheRegionStatsDto>> getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheRegionStatsDto> regions = new ArrayList<>();
+        for (String region : ENTITY_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            regions.add(toDto(region, regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                    regionStatistics.getPutCount()));
+        }
+        CacheRegionStatistics queryStatistics = statistics.getQueryRegionStatistics(QUERY_REGION);
+        if (queryStatistics != null) {
+            regions.add(toDto(QUERY_REGION, queryStatistics.getHitCount(), queryStatistics.getMissCount(),
+                    queryStatistics.getPutCount()));
+        }
+        return ApiResponse.success(regions, "Cache statistics retrieved successfully");
+    }
+
+    private CacheRegionStatsDto toDto(String region, long hitCount, long missCount, long putCount) {
+        long lookups = hitCount + missCount;
+        return CacheRegionStatsDto.builder()
+                .region(region)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .putCount(putCount)
+                .hitRatio(lookups == 0 ? 0 : (double) hitCount / lookups)
+                .build();
+    }
+}
@@ -0,0 +1,214 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.request.AddCatalogRequestDto;
+import com.smbc.school_library.dto.response.ImportResultDto;
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.util.CsvUtil;
+import com.smbc.school_library.util.DataFormat;
+import com.smbc.school_library.util.IsbnUtil;
+import com.smbc.school_library.util.TableVersions;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogImportService {
+    private static final List<String> CSV_COLUMNS = List.of("title", "author", "isbn", "publisher", "totalqty");
+
+    private final CatalogRepository catalogRepository;
+    private final CatalogSearchService catalogSearchService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TableVersions tableVersions;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    public ApiResponse<ImportResultDto> importCatalogs(InputStream body, DataFormat format) throws IOException {
+        long startedAt = System.nanoTime();
+        ImportContext context = new ImportContext();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = format == DataFormat.CSV ? CsvUtil.parseHeader(reader.readLine(), CSV_COLUMNS) : null;
+            long lineNumber = format == DataFormat.CSV ? 1 : 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                AddCatalogRequestDto row = format == DataFormat.CSV
+                        ? parseCsvRow(line, columns, lineNumber, context)
+                        : parseJsonRow(line, lineNumber, context);
+                if (row != null) {
+                    acceptRow(row, lineNumber, context);
+                }
+            }
+        }
+        flush(context);
+
+        if (context.accepted > 0) {
+            tableVersions.bump(TableVersions.CATALOG);
+        }
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        double seconds = Math.max(durationMs, 1) / 1000.0;
+        log.info("Catalog import finished: {} accepted, {} rejected in {} ms", context.accepted, context.rejected, durationMs);
+
+        return ApiResponse.success(ImportResultDto.builder()
+                .accepted(context.accepted)
+                .rejected(context.rejected)
+                .durationMs(durationMs)
+                .rowsPerSecond((context.accepted + context.rejected) / seconds)
+                .errors(context.errors)
+                .build(), "Catalogs imported successfully");
+    }
+
+    private AddCatalogRequestDto parseCsvRow(String line, Map<String, Integer> columns, long lineNumber, ImportContext context) {
+        List<String> values = CsvUtil.parseLine(line);
+        try {
+            String totalQty = CsvUtil.column(values, columns, "totalqty");
+            return AddCatalogRequestDto.builder()
+                    .title(CsvUtil.column(values, columns, "title"))
+                    .author(CsvUtil.column(values, columns, "author"))
+                    .isbn(CsvUtil.column(values, columns, "isbn"))
+                    .publisher(CsvUtil.column(values, columns, "publisher"))
+                    .totalQty(totalQty == null || totalQty.isEmpty() ? null : Integer.valueOf(totalQty))
+                    .build();
+        } catch (NumberFormatException ex) {
+            reject(context, lineNumber, "totalQty must be a number");
+            return null;
+        }
+    }
+
+    private AddCatalogRequestDto parseJsonRow(String line, long lineNumber, ImportContext context) {
+        try {
+            return objectMapper.readValue(line, AddCatalogRequestDto.class);
+        } catch (JacksonException ex) {
+            reject(context, lineNumber, "malformed JSON");
+            return null;
+        }
+    }
+
+    private void acceptRow(AddCatalogRequestDto row, long lineNumber, ImportContext context) {
+        Set<ConstraintViolation<AddCatalogRequestDto>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            reject(context, lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return;
+        }
+        String normalizedIsbn = IsbnUtil.normalize(row.getIsbn());
+        if (!context.seenIsbns.add(normalizedIsbn)) {
+            reject(context, lineNumber, "duplicate isbn in file: " + row.getIsbn());
+            return;
+        }
+        context.batch.add(new PendingRow(lineNumber, normalizedIsbn, row));
+        if (context.batch.size() >= batchSize) {
+            flush(context);
+        }
+    }
+
+    private void flush(ImportContext context) {
+        if (context.batch.isEmpty()) {
+            return;
+        }
+        Set<String> existing = catalogRepository.findExistingNormalizedIsbns(
+                context.batch.stream().map(PendingRow::normalizedIsbn).toList());
+        List<PendingRow> inserts = new ArrayList<>(context.batch.size());
+        for (PendingRow pending : context.batch) {
+            if (existing.contains(pending.normalizedIsbn())) {
+                reject(context, pending.lineNumber(), "catalog already exists with isbn: " + pending.row().getIsbn());
+                continue;
+            }
+            inserts.add(pending);
+        }
+        if (!inserts.isEmpty()) {
+            try {
+                insert(inserts.stream().map(this::toCatalog).toList());
+                context.accepted += inserts.size();
+            } catch (DataIntegrityViolationException ex) {
+                // Another writer committed one of these isbns after the existence check; retry row by row to find it
+                log.warn("Catalog import batch of {} rows hit a constraint, retrying row by row", inserts.size());
+                for (PendingRow pending : inserts) {
+                    try {
+                        insert(List.of(toCatalog(pending)));
+                        context.accepted++;
+                    } catch (DataIntegrityViolationException rowEx) {
+                        reject(context, pending.lineNumber(), "catalog already exists with isbn: " + pending.row().getIsbn());
+                    }
+                }
+            }
+        }
+        context.batch.clear();
+    }
+
+    private void insert(List<Catalog> catalogs) {
+        transactionTemplate.executeWithoutResult(status -> {
+            catalogRepository.saveAllAndFlush(catalogs);
+            catalogs.forEach(catalogSearchService::index);
+            entityManager.clear();
+        });
+    }
+
+    private Catalog toCatalog(PendingRow pending) {
+        AddCatalogRequestDto row = pending.row();
+        return Catalog.builder()
+                .title(row.getTitle())
+                .author(row.getAuthor())
+                .isbn(row.getIsbn())
+                .normalizedIsbn(pending.normalizedIsbn())
+                .publisher(row.getPublisher())
+                .totalQty(row.getTotalQty())
+                .availableQty(row.getTotalQty())
+                .isDeleted(false)
+                .build();
+    }
+
+    private void reject(ImportContext context, long lineNumber, String reason) {
+        context.rejected++;
+        if (context.errors.size() < maxReportedErrors) {
+            context.errors.add("line " + lineNumber + ": " + reason);
+        }
+    }
+
+    private record PendingRow(long lineNumber, String normalizedIsbn, AddCatalogRequestDto row) {
+    }
+
+    private static class ImportContext {
+        private final Set<String> seenIsbns = new HashSet<>();
+        private final List<PendingRow> batch = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private long accepted;
+        private long rejected;
+    }
+}
@@ -0,0 +1,160 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.request.PageRequestDto;
+import com.smbc.school_library.dto.response.CatalogResponseDto;
+import com.smbc.school_library.exception.ServiceBusyException;
+import com.smbc.school_library.util.LruCache;
+import com.smbc.school_library.util.RowCountCache;
+import com.smbc.school_library.util.TableVersions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+public class CatalogResponseCacheService implements AutoCloseable {
+    private final CatalogService catalogService;
+    private final TableVersions tableVersions;
+    private final RowCountCache rowCountCache;
+    private final ObjectMapper objectMapper;
+    private final LruCache<String, CachedPage> pages;
+    private final int gzipMinBytes;
+    private final boolean serveStale;
+    private final Duration maxStaleness;
+    private final Clock clock;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("catalog-refresh").daemon().factory());
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Instant degradedSince;
+
+    @Autowired
+    public CatalogResponseCacheService(
+            CatalogService catalogService,
+            TableVersions tableVersions,
+            RowCountCache rowCountCache,
+            ObjectMapper objectMapper,
+            @Value("${app.response-cache.max-pages:256}") int maxPages,
+            @Value("${app.response-cache.gzip-min-bytes:1024}") int gzipMinBytes,
+            @Value("${app.response-cache.serve-stale:false}") boolean serveStale,
+            @Value("${app.response-cache.max-staleness:300000}") long maxStalenessMillis
+    ) {
+        this(catalogService, tableVersions, rowCountCache, objectMapper, maxPages, gzipMinBytes, serveStale, Duration.ofMillis(maxStalenessMillis), Clock.systemUTC());
+    }
+
+    CatalogResponseCacheService(CatalogService catalogService, TableVersions tableVersions, RowCountCache rowCountCache, ObjectMapper objectMapper, int maxPages,
+                                int gzipMinBytes, boolean serveStale, Duration maxStaleness, Clock clock) {
+        this.catalogService = catalogService;
+        this.tableVersions = tableVersions;
+        this.rowCountCache = rowCountCache;
+        this.objectMapper = objectMapper;
+        this.pages = new LruCache<>(maxPages);
+        this.gzipMinBytes = gzipMinBytes;
+        this.serveStale = serveStale;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+    }
+
+    public SerializedResponse getCatalogs(PageRequestDto request, boolean acceptsGzip) {
+        String key = cacheKey(request);
+        long version = tableVersions.current(TableVersions.CATALOG);
+        CachedPage page = pages.get(key);
+        if (page == null || page.version() != version) {
+            if (serveStale && page != null && degradedSince != null) {
+                refreshInBackground(key, request);
+                return staleResponse(page);
+            }
+            try {
+                page = load(key, request, version);
+            } catch (DataAccessException | TransactionException ex) {
+                if (!serveStale || page == null) {
+                    throw ex;
+                }
+                if (degradedSince == null) {
+                    degradedSince = clock.instant();
+                    log.warn("Catalog reads degraded, serving last good snapshots: {}", ex.getMessage());
+                }
+                refreshInBackground(key, request);
+                return staleResponse(page);
+            }
+        }
+        return acceptsGzip && page.gzip() != null
+                ? new SerializedResponse(page.gzip(), true, false)
+                : new SerializedResponse(page.json(), false, false);
+    }
+
+    private CachedPage load(String key, PageRequestDto request, long version) {
+        ApiResponse<List<CatalogResponseDto>> response = catalogService.getCatalogs(request);
+        byte[] json = objectMapper.writeValueAsBytes(response);
+        CachedPage page = new CachedPage(version, clock.instant(), response, json, json.length >= gzipMinBytes ? gzip(json) : null);
+        pages.put(key, page);
+        if (degradedSince != null) {
+            degradedSince = null;
+            log.info("Catalog reads recovered");
+        }
+        return page;
+    }
+
+    private SerializedResponse staleResponse(CachedPage page) {
+        if (Duration.between(page.loadedAt(), clock.instant()).compareTo(maxStaleness) > 0) {
+            throw new ServiceBusyException("Catalog is temporarily unavailable");
+        }
+        return new SerializedResponse(objectMapper.writeValueAsBytes(page.response().asStale(page.loadedAt())), false, true);
+    }
+
+    private void refreshInBackground(String key, PageRequestDto request) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                load(key, request, tableVersions.current(TableVersions.CATALOG));
+            } catch (RuntimeException ex) {
+                log.warn("Background catalog refresh failed: {}", ex.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private String cacheKey(PageRequestDto request) {
+        String key = request.getMode() + ":" + request.getPage() + ":" + request.getPageSize() + ":" + request.getCount() + ":" + request.getCursor();
+        return request.getCount() == PageRequestDto.CountMode.ESTIMATED ? key + ":" + rowCountCache.version() : key;
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public record SerializedResponse(byte[] body, boolean gzipped, boolean stale) {
+    }
+
+    private record CachedPage(long version, Instant loadedAt, ApiResponse<List<CatalogResponseDto>> response, byte[] json, byte[] gzip) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.request.PageRequestDto;
+import com.smbc.school_library.dto.response.CatalogResponseDto;
+import com.smbc.school_library.dto.response.SuggestionResponseDto;
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.util.CatalogMapper;
+import com.smbc.school_library.util.InvertedIndex;
+import com.smbc.school_library.util.PageUtil;
+import com.smbc.school_library.util.PrefixTrie;
+import com.smbc.school_library.util.SearchTokenizer;
+import com.smbc.school_library.util.TransactionUtil;
+import com.smbc.school_library.util.TrigramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogSearchService {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int PUBLISHER_WEIGHT = 1;
+    private static final int ISBN_WEIGHT = 3;
+    private static final int TITLE_FIELD = 0;
+    private static final int AUTHOR_FIELD = 1;
+
+    private final CatalogRepository catalogRepository;
+    private final CatalogMapper catalogMapper;
+
+    private final Object writeLock = new Object();
+    private final Object rebuildLock = new Object();
+    private volatile SearchIndex current = new SearchIndex();
+    private List<Consumer<SearchIndex>> pendingWrites;
+
+    @Value("${app.search.suggest-max-limit:50}")
+    private int suggestMaxLimit;
+
+    @Value("${app.search.fuzzy-min-similarity:0.3}")
+    private double fuzzyMinSimilarity;
+
+    @Value("${app.search.fuzzy-max-results:50}")
+    private int fuzzyMaxResults;
+
+    @Value("${app.search.fuzzy-max-candidates:20000}")
+    private int fuzzyMaxCandidates;
+
+    // Builds a fresh index next to the live one and publishes it with a single swap, replaying
+    // writes that committed while the catalog was being reloaded so none of them are lost.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long startedAt = System.currentTimeMillis();
+            synchronized (writeLock) {
+                pendingWrites = new ArrayList<>();
+            }
+            SearchIndex rebuilt = new SearchIndex();
+            try {
+                catalogRepository.findAll().forEach(catalog -> rebuilt.put(catalogMapper.mapToDto(catalog)));
+                synchronized (writeLock) {
+                    pendingWrites.forEach(write -> write.accept(rebuilt));
+                    current = rebuilt;
+                }
+            } finally {
+                synchronized (writeLock) {
+                    pendingWrites = null;
+                }
+            }
+            log.info("Catalog search index built with {} catalogs in {} ms, suggestion trie has {} nodes (~{} KB)",
+                    rebuilt.documents.size(), System.currentTimeMillis() - startedAt,
+                    rebuilt.suggestionTrie.nodeCount(), rebuilt.suggestionTrie.estimatedSizeInBytes() / 1024);
+        }
+    }
+
+    public void index(Catalog catalog) {
+        CatalogResponseDto document = catalogMapper.mapToDto(catalog);
+        TransactionUtil.afterCommit(() -> write(index -> index.put(document)));
+    }
+
+    public void remove(Long catalogId) {
+        TransactionUtil.afterCommit(() -> write(index -> index.remove(catalogId)));
+    }
+
+    public CatalogResponseDto getDocument(Long catalogId) {
+        return current.documents.get(catalogId);
+    }
+
+    public ApiResponse<List<CatalogResponseDto>> search(String query, boolean fuzzy, PageRequestDto request) {
+        Pageable pageable = Pageable.ofSize(request.getPageSize()).withPage(request.getPage());
+        SearchIndex index = current;
+
+        List<Long> matchIds;
+        if (fuzzy) {
+            matchIds = index.trigramIndex.search(query, fuzzyMinSimilarity, fuzzyMaxResults, fuzzyMaxCandidates);
+        } else {
+            List<String> terms = new ArrayList<>(SearchTokenizer.tokenize(query));
+            terms.add(SearchTokenizer.compact(query));
+            matchIds = index.invertedIndex.search(terms);
+        }
+        List<CatalogResponseDto> matches = matchIds.stream()
+                .map(index.documents::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), matches.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), matches.size());
+        PageImpl<CatalogResponseDto> page = new PageImpl<>(matches.subList(fromIndex, toIndex), pageable, matches.size());
+        return ApiResponse.paginatedSuccess(page.getContent(), PageUtil.constructPageableResponse(pageable, page), "Catalogs retrieved successfully");
+    }
+
+    public ApiResponse<List<SuggestionResponseDto>> suggest(String prefix, int limit) {
+        if (limit <= 0 || limit > suggestMaxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + suggestMaxLimit);
+        }
+        String key = suggestionKey(prefix);
+        if (key.isEmpty()) {
+            return ApiResponse.success(List.of(), "Suggestions retrieved successfully");
+        }
+
+        SearchIndex index = current;
+        List<SuggestionResponseDto> suggestions = new ArrayList<>();
+        for (Long entry : index.suggestionTrie.findByPrefix(key, limit, value -> index.documents.containsKey(value >> 1))) {
+            CatalogResponseDto document = index.documents.get(entry >> 1);
+            if (document == null) {
+                continue;
+            }
+            boolean isTitle = (entry & 1) == TITLE_FIELD;
+            suggestions.add(SuggestionResponseDto.builder()
+                    .id(document.getId())
+                    .text(isTitle ? document.getTitle() : document.getAuthor())
+                    .field(isTitle ? "title" : "author")
+                    .build());
+        }
+        return ApiResponse.success(suggestions, "Suggestions retrieved successfully");
+    }
+
+    private void write(Consumer<SearchIndex> write) {
+        synchronized (writeLock) {
+            write.accept(current);
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+            }
+        }
+    }
+
+    private static String suggestionKey(String text) {
+        return String.join(" ", SearchTokenizer.tokenize(text));
+    }
+
+    private static long suggestionEntry(Long catalogId, int field) {
+        return (catalogId << 1) | field;
+    }
+
+    private static void addTerms(Map<String, Integer> termWeights, List<String> terms, int weight) {
+        for (String term : terms) {
+            if (!term.isEmpty()) {
+                termWeights.merge(term, weight, Integer::sum);
+            }
+        }
+    }
+
+    private static final class SearchIndex {
+        private final Map<Long, CatalogResponseDto> documents = new ConcurrentHashMap<>();
+        private final InvertedIndex invertedIndex = new InvertedIndex();
+        private final PrefixTrie suggestionTrie = new PrefixTrie();
+        private final TrigramIndex trigramIndex = new TrigramIndex();
+
+        private void put(CatalogResponseDto document) {
+            Map<String, Integer> termWeights = new HashMap<>();
+            addTerms(termWeights, SearchTokenizer.tokenize(document.getTitle()), TITLE_WEIGHT);
+            addTerms(termWeights, SearchTokenizer.tokenize(document.getAuthor()), AUTHOR_WEIGHT);
+            addTerms(termWeights, SearchTokenizer.tokenize(document.getPublisher()), PUBLISHER_WEIGHT);
+            addTerms(termWeights, List.of(SearchTokenizer.compact(document.getIsbn())), ISBN_WEIGHT);
+
+            CatalogResponseDto previous = documents.put(document.getId(), document);
+            invertedIndex.put(document.getId(), termWeights);
+            trigramIndex.put(document.getId(), List.of(TrigramIndex.trigrams(document.getTitle()), TrigramIndex.trigrams(document.getAuthor())));
+            removeSuggestions(previous);
+            suggestionTrie.add(suggestionKey(document.getTitle()), suggestionEntry(document.getId(), TITLE_FIELD));
+            suggestionTrie.add(suggestionKey(document.getAuthor()), suggestionEntry(document.getId(), AUTHOR_FIELD));
+        }
+
+        private void remove(Long catalogId) {
+            CatalogResponseDto previous = documents.remove(catalogId);
+            invertedIndex.remove(catalogId);
+            trigramIndex.remove(catalogId);
+            removeSuggestions(previous);
+        }
+
+        private void removeSuggestions(CatalogResponseDto document) {
+            if (document == null) {
+                return;
+            }
+            suggestionTrie.remove(suggestionKey(document.getTitle()), suggestionEntry(document.getId(), TITLE_FIELD));
+            suggestionTrie.remove(suggestionKey(document.getAuthor()), suggestionEntry(document.getId(), AUTHOR_FIELD));
+        }
+    }
+}
@@ -5,14 +5,22 @@ import com.smbc.school_library.dto.request.AddCatalogRequestDto;
 import com.smbc.school_library.dto.request.EditCatalogRequestDto;
 import com.smbc.school_library.dto.request.PageRequestDto;
 import com.smbc.school_library.dto.response.CatalogResponseDto;
+import com.smbc.school_library.exception.ResourceExistException;
 import com.smbc.school_library.exception.ResourceNotFoundException;
 import com.smbc.school_library.model.entity.Catalog;
 import com.smbc.school_library.repository.CatalogRepository;
 import com.smbc.school_library.util.CatalogMapper;
+import com.smbc.school_library.util.IsbnUtil;
+import com.smbc.school_library.util.LruCache;
 import com.smbc.school_library.util.PageUtil;
+import com.smbc.school_library.util.RowCountCache;
+import com.smbc.school_library.util.SingleFlight;
+import com.smbc.school_library.util.TableVersions;
+import com.smbc.school_library.util.VersionedKey;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,48 +28,105 @@ import java.util.List;
 @RequiredArgsConstructor
 @Service
 public class CatalogService {
+    private static final int ISBN_CACHE_SIZE = 1024;
+
     private final CatalogRepository catalogRepository;
     private final CatalogMapper catalogMapper;
+    private final RowCountCache rowCountCache;
+    private final CatalogSearchService catalogSearchService;
+    private final CacheService cacheService;
+    private final TableVersions tableVersions;
+    private final LruCache<String, Long> isbnCache = new LruCache<>(ISBN_CACHE_SIZE);
+    private final SingleFlight<VersionedKey<PageRequestDto>, ApiResponse<List<CatalogResponseDto>>> catalogPageLoads = new SingleFlight<>();
 
     public ApiResponse<List<CatalogResponseDto>> getCatalogs(PageRequestDto request) {
+        return catalogPageLoads.execute(new VersionedKey<>(request, tableVersions.etag(TableVersions.CATALOG)), () -> loadCatalogs(request));
+    }
+
+    private ApiResponse<List<CatalogResponseDto>> loadCatalogs(PageRequestDto request) {
+        if (request.isCursorMode()) {
+            List<Catalog> catalogRows = catalogRepository.findByIdGreaterThanOrderByIdAsc(PageUtil.decodeCursor(request.getCursor()), PageUtil.constructCursorPageable(request));
+            List<CatalogResponseDto> catalogs = catalogMapper.mapToDto(PageUtil.trimToPageSize(catalogRows, request.getPageSize()));
+            return ApiResponse.paginatedSuccess(catalogs, PageUtil.constructCursorResponse(catalogRows, request.getPageSize(), Catalog::getId), "Catalogs retrieved successfully");
+        }
         Pageable pageable = Pageable.ofSize(request.getPageSize()).withPage(request.getPage());
+        if (!request.isExactCount()) {
+            Slice<Catalog> catalogSlice = catalogRepository.findAllAsSlice(pageable);
+            Long estimatedTotal = request.getCount() == PageRequestDto.CountMode.ESTIMATED ? rowCountCache.get("catalog", catalogRepository::count) : null;
+            return ApiResponse.paginatedSuccess(catalogMapper.mapToDto(catalogSlice.getContent()), PageUtil.constructSliceResponse(pageable, catalogSlice, estimatedTotal), "Catalogs retrieved successfully");
+        }
         Page<Catalog> catalogPage = catalogRepository.findAll(pageable);
 
         List<CatalogResponseDto> catalogs = catalogMapper.mapToDto(catalogPage);
         return ApiResponse.paginatedSuccess(catalogs, PageUtil.constructPageableResponse(pageable, catalogPage), "Catalogs retrieved successfully");
     }
 
+    public ApiResponse<CatalogResponseDto> getCatalogByIsbn(String isbn) {
+        String normalizedIsbn = IsbnUtil.normalize(isbn);
+        Long cachedId = isbnCache.get(normalizedIsbn);
+        if (cachedId != null) {
+            CatalogResponseDto document = catalogSearchService.getDocument(cachedId);
+            if (document != null) {
+                return ApiResponse.success(document, "Catalog retrieved successfully");
+            }
+        }
+
+        Catalog catalog = catalogRepository.findByNormalizedIsbn(normalizedIsbn).orElseThrow(() -> new ResourceNotFoundException("Catalog not found with isbn: " + isbn));
+        isbnCache.put(normalizedIsbn, catalog.getId());
+        return ApiResponse.success(catalogMapper.mapToDto(catalog), "Catalog retrieved successfully");
+    }
+
     public ApiResponse<CatalogResponseDto> addCatalog(AddCatalogRequestDto request) {
+        String normalizedIsbn = IsbnUtil.normalize(request.getIsbn());
+        if (catalogRepository.existsByNormalizedIsbn(normalizedIsbn)) {
+            throw new ResourceExistException("Catalog already exists with isbn: " + request.getIsbn());
+        }
         Catalog catalog = Catalog.builder()
                 .title(request.getTitle())
                 .author(request.getAuthor())
                 .publisher(request.getPublisher())
                 .isbn(request.getIsbn())
+                .normalizedIsbn(normalizedIsbn)
                 .totalQty(request.getTotalQty())
                 .availableQty(request.getTotalQty())
                 .isDeleted(false)
                 .build();
         Catalog savedCatalog = catalogRepository.save(catalog);
+        catalogSearchService.index(savedCatalog);
+        tableVersions.bump(TableVersions.CATALOG);
         return ApiResponse.success(catalogMapper.mapToDto(savedCatalog), "Catalog added successfully");
     }
 
     public ApiResponse<CatalogResponseDto> editCatalog(Long catalogId, EditCatalogRequestDto request) {
         Catalog catalog = catalogRepository.findById(catalogId).orElseThrow(()-> new ResourceNotFoundException("Catalog not found with id: " + catalogId));
+        String normalizedIsbn = IsbnUtil.normalize(request.getIsbn());
+        if (catalogRepository.existsByNormalizedIsbnAndIdNot(normalizedIsbn, catalogId)) {
+            throw new ResourceExistException("Catalog already exists with isbn: " + request.getIsbn());
+        }
+        isbnCache.remove(catalog.getNormalizedIsbn());
         catalog.setTitle(request.getTitle());
         catalog.setAuthor(request.getAuthor());
         catalog.setPublisher(request.getPublisher());
         catalog.setIsbn(request.getIsbn());
+        catalog.setNormalizedIsbn(normalizedIsbn);
         catalog.setTotalQty(request.getTotalQty());
         catalog.setAvailableQty(request.getTotalQty());
 
         Catalog updatedCatalog = catalogRepository.save(catalog);
+        catalogSearchService.index(updatedCatalog);
+        tableVersions.bump(TableVersions.CATALOG);
         return ApiResponse.success(catalogMapper.mapToDto(updatedCatalog), "Catalog updated successfully");
     }
 
     public ApiResponse<String> deleteCatalog(Long catalogId) {
         Catalog catalog = catalogRepository.findById(catalogId).orElseThrow(()-> new ResourceNotFoundException("Catalog not found with id: " + catalogId));
+        isbnCache.remove(catalog.getNormalizedIsbn());
         catalog.setIsDeleted(true);
+        catalog.setNormalizedIsbn(null);
         catalogRepository.save(catalog);
+        cacheService.evictAfterCommit(Catalog.class, catalogId);
+        catalogSearchService.remove(catalogId);
+        tableVersions.bump(TableVersions.CATALOG);
         return ApiResponse.success(null, "Catalog deleted successfully");
     }
 }
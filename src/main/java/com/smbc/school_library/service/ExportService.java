@@ -0,0 +1,97 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.response.CatalogResponseDto;
+import com.smbc.school_library.dto.response.MemberResponseDto;
+import com.smbc.school_library.dto.response.RentRowDto;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.repository.RentRepository;
+import com.smbc.school_library.util.CsvUtil;
+import com.smbc.school_library.util.DataFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+    private static final List<String> CATALOG_COLUMNS = List.of("id", "title", "author", "isbn", "publisher", "totalQty", "availableQty");
+    private static final List<String> MEMBER_COLUMNS = List.of("id", "fullName", "email");
+    private static final List<String> RENT_COLUMNS = List.of("id", "memberId", "memberName", "memberEmail", "catalogId",
+            "catalogTitle", "catalogAuthor", "catalogIsbn", "catalogPublisher", "rentDate", "dueDate", "returnDate");
+
+    private final CatalogRepository catalogRepository;
+    private final MemberRepository memberRepository;
+    private final RentRepository rentRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.flush-rows:1000}")
+    private int flushRows;
+
+    @Transactional(readOnly = true)
+    public void exportCatalogs(DataFormat format, OutputStream out) throws IOException {
+        try (Stream<CatalogResponseDto> rows = catalogRepository.streamAllForExport()) {
+            write(rows, format, out, CATALOG_COLUMNS, row -> Arrays.asList(row.getId(), row.getTitle(), row.getAuthor(),
+                    row.getIsbn(), row.getPublisher(), row.getTotalQty(), row.getAvailableQty()));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportMembers(DataFormat format, OutputStream out) throws IOException {
+        try (Stream<MemberResponseDto> rows = memberRepository.streamAllForExport()) {
+            write(rows, format, out, MEMBER_COLUMNS, row -> Arrays.asList(row.getId(), row.getFullName(), row.getEmail()));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportRents(DataFormat format, OutputStream out) throws IOException {
+        try (Stream<RentRowDto> rows = rentRepository.streamAllForExport()) {
+            writeRents(rows, format, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportOverdueRents(DataFormat format, OutputStream out) throws IOException {
+        try (Stream<RentRowDto> rows = rentRepository.streamOverdue(LocalDate.now())) {
+            writeRents(rows, format, out);
+        }
+    }
+
+    private void writeRents(Stream<RentRowDto> rows, DataFormat format, OutputStream out) throws IOException {
+        write(rows, format, out, RENT_COLUMNS, row -> Arrays.asList(row.getId(), row.getMemberId(),
+                row.getMemberName(), row.getMemberEmail(), row.getCatalogId(), row.getCatalogTitle(),
+                row.getCatalogAuthor(), row.getCatalogIsbn(), row.getCatalogPublisher(), row.getRentDate(), row.getDueDate(), row.getReturnDate()));
+    }
+
+    private <T> void write(Stream<T> rows, DataFormat format, OutputStream out, List<String> columns,
+                           Function<T, List<?>> csvValues) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        if (format == DataFormat.CSV) {
+            writer.write(CsvUtil.toLine(columns));
+            writer.write('\n');
+        }
+        long written = 0;
+        for (T row : (Iterable<T>) rows::iterator) {
+            writer.write(format == DataFormat.CSV ? CsvUtil.toLine(csvValues.apply(row)) : objectMapper.writeValueAsString(row));
+            writer.write('\n');
+            if (++written % flushRows == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+}
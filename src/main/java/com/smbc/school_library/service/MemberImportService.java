@@ -0,0 +1,197 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.request.RegisterMemberDto;
+import com.smbc.school_library.dto.response.ImportResultDto;
+import com.smbc.school_library.model.entity.Member;
+import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.util.BoundedPasswordEncoder;
+import com.smbc.school_library.util.CsvUtil;
+import com.smbc.school_library.util.TableVersions;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class MemberImportService implements AutoCloseable {
+    private static final List<String> CSV_COLUMNS = List.of("email", "password", "fullname");
+
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final TableVersions tableVersions;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ForkJoinPool hashPool;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    public MemberImportService(
+            MemberRepository memberRepository,
+            EntityManager entityManager,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            TableVersions tableVersions,
+            BoundedPasswordEncoder boundedPasswordEncoder
+    ) {
+        this.memberRepository = memberRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.tableVersions = tableVersions;
+        this.passwordEncoder = boundedPasswordEncoder.getDelegate();
+        this.hashPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ApiResponse<ImportResultDto> importMembers(InputStream body) throws IOException {
+        long startedAt = System.nanoTime();
+        ImportContext context = new ImportContext();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = CsvUtil.parseHeader(reader.readLine(), CSV_COLUMNS);
+            long lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> values = CsvUtil.parseLine(line);
+                acceptRow(RegisterMemberDto.builder()
+                        .email(CsvUtil.column(values, columns, "email"))
+                        .password(CsvUtil.column(values, columns, "password"))
+                        .fullName(CsvUtil.column(values, columns, "fullname"))
+                        .build(), lineNumber, context);
+            }
+        }
+        flush(context);
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        double seconds = Math.max(durationMs, 1) / 1000.0;
+        log.info("Member import finished: {} accepted, {} rejected in {} ms", context.accepted, context.rejected, durationMs);
+
+        return ApiResponse.success(ImportResultDto.builder()
+                .accepted(context.accepted)
+                .rejected(context.rejected)
+                .durationMs(durationMs)
+                .rowsPerSecond((context.accepted + context.rejected) / seconds)
+                .errors(context.errors)
+                .build(), "Members imported successfully");
+    }
+
+    private void acceptRow(RegisterMemberDto row, long lineNumber, ImportContext context) {
+        Set<ConstraintViolation<RegisterMemberDto>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            reject(context, lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return;
+        }
+        if (!context.seenEmails.add(row.getEmail())) {
+            reject(context, lineNumber, "duplicate email in file: " + row.getEmail());
+            return;
+        }
+        context.batch.add(new PendingRow(lineNumber, row));
+        if (context.batch.size() >= batchSize) {
+            flush(context);
+        }
+    }
+
+    private void flush(ImportContext context) {
+        if (context.batch.isEmpty()) {
+            return;
+        }
+        Set<String> existing = memberRepository.findExistingEmails(
+                context.batch.stream().map(pending -> pending.row().getEmail()).toList());
+        List<PendingRow> accepted = new ArrayList<>(context.batch.size());
+        for (PendingRow pending : context.batch) {
+            if (existing.contains(pending.row().getEmail())) {
+                reject(context, pending.lineNumber(), "email already in use: " + pending.row().getEmail());
+            } else {
+                accepted.add(pending);
+            }
+        }
+        context.batch.clear();
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = hashPasswords(accepted);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < accepted.size(); i++) {
+                RegisterMemberDto row = accepted.get(i).row();
+                entityManager.persist(Member.builder()
+                        .email(row.getEmail())
+                        .password(hashes.get(i))
+                        .fullName(row.getFullName())
+                        .isActive(true)
+                        .isDeleted(false)
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        context.accepted += accepted.size();
+        tableVersions.bump(TableVersions.MEMBER);
+    }
+
+    private List<String> hashPasswords(List<PendingRow> rows) {
+        try {
+            return hashPool.submit(() -> rows.parallelStream()
+                    .map(pending -> passwordEncoder.encode(pending.row().getPassword()))
+                    .toList()).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Failed to hash passwords", ex.getCause());
+        }
+    }
+
+    private void reject(ImportContext context, long lineNumber, String reason) {
+        context.rejected++;
+        if (context.errors.size() < maxReportedErrors) {
+            context.errors.add("line " + lineNumber + ": " + reason);
+        }
+    }
+
+    @Override
+    public void close() {
+        hashPool.shutdown();
+    }
+
+    private record PendingRow(long lineNumber, RegisterMemberDto row) {
+    }
+
+    private static class ImportContext {
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<PendingRow> batch = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private long accepted;
+        private long rejected;
+    }
+}
@@ -0,0 +1,39 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.model.MemberPrincipal;
+import com.smbc.school_library.model.entity.Member;
+import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MemberPrincipalService {
+    private final MemberRepository memberRepository;
+    private final LruCache<String, MemberPrincipal> principals;
+
+    public MemberPrincipalService(
+            MemberRepository memberRepository,
+            @Value("${security.principal-cache.size:10000}") int cacheSize,
+            @Value("${security.principal-cache.ttl:60000}") long cacheTtlMillis
+    ) {
+        this.memberRepository = memberRepository;
+        this.principals = new LruCache<>(cacheSize, cacheTtlMillis);
+    }
+
+    public MemberPrincipal loadPrincipal(String email) {
+        MemberPrincipal principal = principals.get(email);
+        if (principal == null) {
+            Member member = memberRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("Member not found with email: " + email));
+            principal = new MemberPrincipal(member.getId(), member.getEmail(), !Boolean.FALSE.equals(member.getIsActive()));
+            principals.put(email, principal);
+        }
+        return principal;
+    }
+
+    public void evict(String email) {
+        principals.remove(email);
+    }
+}
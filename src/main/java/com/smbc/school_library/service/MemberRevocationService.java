@@ -0,0 +1,59 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class MemberRevocationService {
+    private final MemberRepository memberRepository;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile Set<Long> revokedIds;
+
+    public MemberRevocationService(
+            MemberRepository memberRepository,
+            @Value("${security.revocation.expected-members:100000}") int expectedRevocations,
+            @Value("${security.revocation.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.memberRepository = memberRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+        this.revokedIds = ConcurrentHashMap.newKeySet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<Long> memberIds = memberRepository.findRevokedMemberIds();
+        BloomFilter rebuiltFilter = new BloomFilter(Math.max(expectedRevocations, memberIds.size() * 2), falsePositiveRate);
+        Set<Long> rebuiltIds = ConcurrentHashMap.newKeySet(memberIds.size());
+        for (Long memberId : memberIds) {
+            rebuiltFilter.add(memberId);
+            rebuiltIds.add(memberId);
+        }
+        filter = rebuiltFilter;
+        revokedIds = rebuiltIds;
+        log.info("Member revocation set rebuilt with {} members", rebuiltIds.size());
+    }
+
+    public synchronized void revoke(Long memberId) {
+        filter.add(memberId);
+        revokedIds.add(memberId);
+    }
+
+    public boolean isRevoked(Long memberId) {
+        return filter.mightContain(memberId) && revokedIds.contains(memberId);
+    }
+}
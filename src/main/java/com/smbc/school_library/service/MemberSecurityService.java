@@ -1,20 +1,30 @@
 package com.smbc.school_library.service;
 
+import com.smbc.school_library.model.entity.Member;
 import com.smbc.school_library.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class MemberSecurityService implements UserDetailsService {
+public class MemberSecurityService implements UserDetailsService, UserDetailsPasswordService {
     private final MemberRepository memberRepository;
 
     @Override
     public UserDetails loadUserByUsername(@NonNull String email) throws UsernameNotFoundException {
         return memberRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException("Member not found with email: " + email));
     }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Member not found with email: " + user.getUsername()));
+        member.setPassword(newPassword);
+        return memberRepository.save(member);
+    }
 }
@@ -9,9 +9,14 @@ import com.smbc.school_library.model.entity.Member;
 import com.smbc.school_library.repository.MemberRepository;
 import com.smbc.school_library.util.MemberMapper;
 import com.smbc.school_library.util.PageUtil;
+import com.smbc.school_library.util.RowCountCache;
+import com.smbc.school_library.util.SingleFlight;
+import com.smbc.school_library.util.TableVersions;
+import com.smbc.school_library.util.VersionedKey;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,9 +27,29 @@ import java.util.Optional;
 public class MemberService {
     private final MemberRepository memberRepository;
     private final MemberMapper memberMapper;
+    private final RowCountCache rowCountCache;
+    private final MemberPrincipalService memberPrincipalService;
+    private final MemberRevocationService memberRevocationService;
+    private final CacheService cacheService;
+    private final TableVersions tableVersions;
+    private final SingleFlight<VersionedKey<PageRequestDto>, ApiResponse<List<MemberResponseDto>>> memberPageLoads = new SingleFlight<>();
 
     public ApiResponse<List<MemberResponseDto>> getMembers(PageRequestDto pageRequestDto) {
+        return memberPageLoads.execute(new VersionedKey<>(pageRequestDto, tableVersions.etag(TableVersions.MEMBER)), () -> loadMembers(pageRequestDto));
+    }
+
+    private ApiResponse<List<MemberResponseDto>> loadMembers(PageRequestDto pageRequestDto) {
+        if (pageRequestDto.isCursorMode()) {
+            List<Member> memberRows = memberRepository.findByIdGreaterThanOrderByIdAsc(PageUtil.decodeCursor(pageRequestDto.getCursor()), PageUtil.constructCursorPageable(pageRequestDto));
+            List<MemberResponseDto> members = memberMapper.mapToDto(PageUtil.trimToPageSize(memberRows, pageRequestDto.getPageSize()));
+            return ApiResponse.paginatedSuccess(members, PageUtil.constructCursorResponse(memberRows, pageRequestDto.getPageSize(), Member::getId), "Members retrieved successfully");
+        }
         Pageable pageable = Pageable.ofSize(pageRequestDto.getPageSize()).withPage(pageRequestDto.getPage());
+        if (!pageRequestDto.isExactCount()) {
+            Slice<Member> memberSlice = memberRepository.findAllAsSlice(pageable);
+            Long estimatedTotal = pageRequestDto.getCount() == PageRequestDto.CountMode.ESTIMATED ? rowCountCache.get("member", memberRepository::count) : null;
+            return ApiResponse.paginatedSuccess(memberMapper.mapToDto(memberSlice.getContent()), PageUtil.constructSliceResponse(pageable, memberSlice, estimatedTotal), "Members retrieved successfully");
+        }
         Page<Member> memberPage = memberRepository.findAll(pageable);
 
         return ApiResponse.paginatedSuccess(memberMapper.mapToDto(memberPage), PageUtil.constructPageableResponse(pageable, memberPage), "Members retrieved successfully");
@@ -37,6 +62,10 @@ public class MemberService {
         }
         member.get().setIsDeleted(true);
         memberRepository.save(member.get());
+        cacheService.evictAfterCommit(Member.class, memberId);
+        memberPrincipalService.evict(member.get().getEmail());
+        memberRevocationService.revoke(memberId);
+        tableVersions.bump(TableVersions.MEMBER);
 
         return ApiResponse.success(null,"Member deleted successfully");
     }
@@ -49,6 +78,8 @@ public class MemberService {
         }
 
         memberRepository.save(member);
+        memberPrincipalService.evict(member.getEmail());
+        tableVersions.bump(TableVersions.MEMBER);
         return ApiResponse.success(memberMapper.mapToDto(member), "Member updated successfully");
     }
 }
@@ -4,7 +4,10 @@ import com.smbc.school_library.dto.ApiResponse;
 import com.smbc.school_library.dto.request.PageRequestDto;
 import com.smbc.school_library.dto.request.RentRequestDto;
 import com.smbc.school_library.dto.response.RentResponseDto;
+import com.smbc.school_library.dto.response.RentRowDto;
+import com.smbc.school_library.exception.ResourceExistException;
 import com.smbc.school_library.exception.ResourceNotFoundException;
+import com.smbc.school_library.model.RentStatus;
 import com.smbc.school_library.model.entity.Catalog;
 import com.smbc.school_library.model.entity.Member;
 import com.smbc.school_library.model.entity.Rent;
@@ -12,12 +15,17 @@ import com.smbc.school_library.repository.CatalogRepository;
 import com.smbc.school_library.repository.MemberRepository;
 import com.smbc.school_library.repository.RentRepository;
 import com.smbc.school_library.util.PageUtil;
+import com.smbc.school_library.util.RowCountCache;
 import com.smbc.school_library.util.RentMapper;
+import com.smbc.school_library.util.SingleFlight;
+import com.smbc.school_library.util.TableVersions;
+import com.smbc.school_library.util.VersionedKey;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -26,27 +34,69 @@ import java.util.List;
 @RequiredArgsConstructor
 @Service
 public class RentService {
+    private static final PageUtil.DateCursor OVERDUE_START = new PageUtil.DateCursor(LocalDate.of(1, 1, 1), 0L);
+    private static final PageUtil.DateCursor HISTORY_START = new PageUtil.DateCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
     private final RentRepository rentRepository;
     private final MemberRepository memberRepository;
     private final CatalogRepository catalogRepository;
     private final RentMapper rentMapper;
+    private final RowCountCache rowCountCache;
+    private final CatalogSearchService catalogSearchService;
+    private final TableVersions tableVersions;
+    private final SingleFlight<VersionedKey<PageRequestDto>, ApiResponse<List<RentResponseDto>>> rentPageLoads = new SingleFlight<>();
 
     public ApiResponse<List<RentResponseDto>> getRents(PageRequestDto request) {
+        return rentPageLoads.execute(new VersionedKey<>(request, tableVersions.etag(TableVersions.RENT, TableVersions.MEMBER, TableVersions.CATALOG)), () -> loadRents(request));
+    }
+
+    private ApiResponse<List<RentResponseDto>> loadRents(PageRequestDto request) {
+        if (request.isCursorMode()) {
+            List<Rent> rentRows = rentRepository.findByIdGreaterThanOrderByIdAsc(PageUtil.decodeCursor(request.getCursor()), PageUtil.constructCursorPageable(request));
+            List<RentResponseDto> rents = rentMapper.mapToDto(PageUtil.trimToPageSize(rentRows, request.getPageSize()));
+            return ApiResponse.paginatedSuccess(rents, PageUtil.constructCursorResponse(rentRows, request.getPageSize(), Rent::getId), "Rents retrieved successfully");
+        }
         Pageable pageable = PageRequest.of(request.getPage(), request.getPageSize());
+        if (!request.isExactCount()) {
+            Slice<Rent> rentSlice = rentRepository.findAllAsSlice(pageable);
+            Long estimatedTotal = request.getCount() == PageRequestDto.CountMode.ESTIMATED ? rowCountCache.get("rent", rentRepository::count) : null;
+            return ApiResponse.paginatedSuccess(rentMapper.mapToDto(rentSlice.getContent()), PageUtil.constructSliceResponse(pageable, rentSlice, estimatedTotal), "Rents retrieved successfully");
+        }
         Page<Rent> rentPage = rentRepository.findAll(pageable);
         List<RentResponseDto> rents = rentMapper.mapToDto(rentPage);
         return ApiResponse.paginatedSuccess(rents, PageUtil.constructPageableResponse(pageable, rentPage), "Rents retrieved successfully");
     }
 
+    public ApiResponse<List<RentResponseDto>> getOverdueRents(String cursor, int pageSize) {
+        PageUtil.DateCursor after = PageUtil.decodeDateCursor(cursor, OVERDUE_START);
+        List<Rent> rentRows = rentRepository.findOverdue(LocalDate.now(), after.date(), after.id(), PageUtil.constructCursorPageable(pageSize));
+        List<RentResponseDto> rents = rentMapper.mapToDto(PageUtil.trimToPageSize(rentRows, pageSize));
+        return ApiResponse.paginatedSuccess(rents, PageUtil.constructKeysetResponse(rentRows, pageSize, rent -> PageUtil.encodeCursor(rent.getDueDate(), rent.getId())), "Overdue rents retrieved successfully");
+    }
+
+    public ApiResponse<List<RentResponseDto>> getMemberRents(Long memberId, RentStatus status, String cursor, int pageSize) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new ResourceNotFoundException("Member not found with id: " + memberId);
+        }
+        PageUtil.DateCursor before = PageUtil.decodeDateCursor(cursor, HISTORY_START);
+        List<RentRowDto> rentRows = rentRepository.findMemberRents(memberId, status != RentStatus.RETURNED, status != RentStatus.ACTIVE,
+                before.date(), before.id(), PageUtil.constructCursorPageable(pageSize));
+        List<RentResponseDto> rents = rentMapper.mapRowsToDto(PageUtil.trimToPageSize(rentRows, pageSize));
+        return ApiResponse.paginatedSuccess(rents, PageUtil.constructKeysetResponse(rentRows, pageSize, rent -> PageUtil.encodeCursor(rent.getRentDate(), rent.getId())), "Member rents retrieved successfully");
+    }
+
     @Transactional
     public ApiResponse<RentResponseDto> rentBook(RentRequestDto request) {
         Member member = memberRepository.findById(request.getMemberId()).orElseThrow(() -> new ResourceNotFoundException("Member not found with id: " + request.getMemberId()));
-        Catalog catalog = catalogRepository.findById(request.getCatalogId()).orElseThrow(() -> new ResourceNotFoundException("Catalog not found with id: " + request.getCatalogId()));
-        if (catalog.getAvailableQty() <= 0) {
+        if (catalogRepository.reserveCopy(request.getCatalogId()) == 0) {
+            if (!catalogRepository.existsById(request.getCatalogId())) {
+                throw new ResourceNotFoundException("Catalog not found with id: " + request.getCatalogId());
+            }
             throw new ResourceNotFoundException("No available copies for this book");
         }
-        catalog.setAvailableQty(catalog.getAvailableQty() - 1);
-        catalogRepository.save(catalog);
+        Catalog catalog = catalogRepository.findById(request.getCatalogId()).orElseThrow(() -> new ResourceNotFoundException("Catalog not found with id: " + request.getCatalogId()));
+        catalogSearchService.index(catalog);
+        tableVersions.bump(TableVersions.CATALOG);
         Rent rent = Rent.builder()
                 .member(member)
                 .catalog(catalog)
@@ -56,21 +106,30 @@ public class RentService {
 
 
         Rent savedRent = rentRepository.save(rent);
+        tableVersions.bump(TableVersions.RENT);
         return ApiResponse.success(rentMapper.mapToDto(savedRent), "Book rented successfully");
     }
 
     @Transactional
      public ApiResponse<RentResponseDto> returnBook(Long rentId) {
+        if (rentRepository.markReturned(rentId, LocalDate.now()) == 0) {
+            if (!rentRepository.existsById(rentId)) {
+                throw new ResourceNotFoundException("Rent not found with id: " + rentId);
+            }
+            throw new ResourceExistException("Book has already been returned for this rent");
+        }
         Rent rent = rentRepository.findById(rentId).orElseThrow(() -> new ResourceNotFoundException("Rent not found with id: " + rentId));
-        if (rent.getReturnDate() != null) {
-            throw new RuntimeException("Book has already been returned for this rent");
+        Long catalogId = rent.getCatalog().getId();
+        if (catalogRepository.releaseCopy(catalogId) == 0) {
+            if (!catalogRepository.existsById(catalogId)) {
+                throw new ResourceNotFoundException("Catalog not found with id: " + catalogId);
+            }
+            throw new ResourceExistException("All copies of this book are already in stock");
         }
-        Catalog catalog = rent.getCatalog();
-        catalog.setAvailableQty(catalog.getAvailableQty() + 1);
-        catalogRepository.save(catalog);
+        catalogSearchService.index(rent.getCatalog());
+        tableVersions.bump(TableVersions.CATALOG);
+        tableVersions.bump(TableVersions.RENT);
 
-        rent.setReturnDate(LocalDate.now());
-        Rent updatedRent = rentRepository.save(rent);
-        return ApiResponse.success(rentMapper.mapToDto(updatedRent), "Book returned successfully");
+        return ApiResponse.success(rentMapper.mapToDto(rent), "Book returned successfully");
     }
 }
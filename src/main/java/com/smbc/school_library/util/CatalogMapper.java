@@ -33,4 +33,10 @@ public class CatalogMapper {
                 .map(this::mapEntityToDto)
                 .toList();
     }
+
+    public List<CatalogResponseDto> mapToDto(List<Catalog> entities) {
+        return entities.stream()
+                .map(this::mapEntityToDto)
+                .toList();
+    }
 }
@@ -0,0 +1,20 @@
+package com.smbc.school_library.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public class ExportResponses {
+
+    public static WebAsyncTask<Void> stream(HttpServletResponse response, DataFormat format, String filename,
+                                            long timeoutMillis, StreamingResponseBody body) {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "." + format.getExtension() + "\"");
+        return new WebAsyncTask<>(timeoutMillis, () -> {
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+}
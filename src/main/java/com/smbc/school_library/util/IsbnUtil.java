@@ -0,0 +1,52 @@
+package com.smbc.school_library.util;
+
+import java.util.Locale;
+
+public class IsbnUtil {
+
+    public static String normalize(String isbn) {
+        if (!isValid(isbn)) {
+            throw new IllegalArgumentException("Invalid ISBN: " + isbn);
+        }
+        String compacted = compact(isbn);
+        return compacted.length() == 10 ? toIsbn13(compacted) : compacted;
+    }
+
+    public static boolean isValid(String isbn) {
+        if (isbn == null || !isbn.matches("[0-9Xx\\- ]+")) {
+            return false;
+        }
+        String compacted = compact(isbn);
+        if (compacted.matches("\\d{9}[\\dX]")) {
+            return isValidIsbn10(compacted);
+        }
+        return compacted.matches("\\d{13}") && checkDigit13(compacted.substring(0, 12)) == compacted.charAt(12) - '0';
+    }
+
+    private static String compact(String isbn) {
+        return isbn.replaceAll("[\\- ]", "").toUpperCase(Locale.ROOT);
+    }
+
+    private static boolean isValidIsbn10(String isbn10) {
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            int digit = isbn10.charAt(i) == 'X' ? 10 : isbn10.charAt(i) - '0';
+            sum += digit * (10 - i);
+        }
+        return sum % 11 == 0;
+    }
+
+    private static String toIsbn13(String isbn10) {
+        String body = "978" + isbn10.substring(0, 9);
+        return body + checkDigit13(body);
+    }
+
+    private static int checkDigit13(String body) {
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            int digit = body.charAt(i) - '0';
+            sum += i % 2 == 0 ? digit : digit * 3;
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
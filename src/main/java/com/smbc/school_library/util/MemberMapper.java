@@ -28,4 +28,10 @@ public class MemberMapper {
                 .map(this::mapEntityToDto)
                 .toList();
     }
+
+    public List<MemberResponseDto> mapToDto(List<Member> entities) {
+        return entities.stream()
+                .map(this::mapEntityToDto)
+                .toList();
+    }
 }
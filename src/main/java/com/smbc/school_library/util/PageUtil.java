@@ -5,10 +5,17 @@ import com.smbc.school_library.dto.request.PageRequestDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
 
 @Component
 public class PageUtil {
@@ -28,11 +35,88 @@ public class PageUtil {
                 currentPage = 1;
             }
 
-            return PaginationDto.builder().currentPage(currentPage).pageSize(pageable.getPageSize()).totalElements((int)(page == null ? 0L : page.getTotalElements())).totalPages(totalPages).build();
+            return PaginationDto.builder().currentPage(currentPage).pageSize(pageable.getPageSize()).totalElements(page == null ? 0L : page.getTotalElements()).totalPages(totalPages).totalExact(true).build();
         } else {
             int totalElements = page == null ? 0 : (int)page.getTotalElements();
             int totalPages = totalElements == 0 ? 0 : 1;
-            return PaginationDto.builder().currentPage(totalElements == 0 ? 0 : 1).pageSize(totalElements).totalElements(totalElements).totalPages(totalPages).build();
+            return PaginationDto.builder().currentPage(totalElements == 0 ? 0 : 1).pageSize(totalElements).totalElements((long) totalElements).totalPages(totalPages).totalExact(true).build();
         }
     }
+
+    public static PaginationDto constructSliceResponse(Pageable pageable, Slice<?> slice, Long estimatedTotal) {
+        PaginationDto pagination = PaginationDto.builder()
+                .currentPage(pageable.getPageNumber() + 1)
+                .pageSize(pageable.getPageSize())
+                .hasNext(slice.hasNext())
+                .build();
+        if (estimatedTotal != null) {
+            long seenElements = pageable.getOffset() + slice.getNumberOfElements();
+            long totalElements = slice.hasNext() ? Math.max(estimatedTotal, seenElements + 1) : seenElements;
+            pagination.setTotalElements(totalElements);
+            pagination.setTotalPages((int) ((totalElements + pageable.getPageSize() - 1) / pageable.getPageSize()));
+            pagination.setTotalExact(!slice.hasNext());
+        }
+        return pagination;
+    }
+
+    public static Pageable constructCursorPageable(PageRequestDto pageRequest) {
+        return constructCursorPageable(pageRequest.getPageSize());
+    }
+
+    public static Pageable constructCursorPageable(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    public static <T> List<T> trimToPageSize(List<T> rows, int pageSize) {
+        return rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+    }
+
+    public static <T> PaginationDto constructCursorResponse(List<T> rows, int pageSize, Function<T, Long> idExtractor) {
+        boolean hasNext = rows.size() > pageSize;
+        String nextCursor = hasNext ? encodeCursor(idExtractor.apply(rows.get(pageSize - 1))) : null;
+        return PaginationDto.builder().pageSize(pageSize).hasNext(hasNext).nextCursor(nextCursor).build();
+    }
+
+    public static <T> PaginationDto constructKeysetResponse(List<T> rows, int pageSize, Function<T, String> cursorEncoder) {
+        boolean hasNext = rows.size() > pageSize;
+        String nextCursor = hasNext ? cursorEncoder.apply(rows.get(pageSize - 1)) : null;
+        return PaginationDto.builder().pageSize(pageSize).hasNext(hasNext).nextCursor(nextCursor).build();
+    }
+
+    public static String encodeCursor(LocalDate date, Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((date + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DateCursor decodeDateCursor(String cursor, DateCursor start) {
+        if (cursor == null || cursor.isBlank()) {
+            return start;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            return new DateCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public record DateCursor(LocalDate date, Long id) {
+    }
 }
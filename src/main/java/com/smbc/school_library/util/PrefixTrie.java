@@ -0,0 +1,223 @@
+package com.smbc.school_library.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+public class PrefixTrie {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final long[] NO_VALUES = new long[0];
+
+    private final Node root = new Node();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void add(String key, long value) {
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+            }
+            node.addValue(value);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key, long value) {
+        lock.writeLock().lock();
+        try {
+            Node[] path = new Node[key.length() + 1];
+            path[0] = root;
+            for (int i = 0; i < key.length(); i++) {
+                path[i + 1] = path[i].child(key.charAt(i));
+                if (path[i + 1] == null) {
+                    return;
+                }
+            }
+            path[key.length()].removeValue(value);
+            // Unlink nodes left with no values and no children so removed titles do not keep their branch alive
+            for (int i = key.length(); i > 0 && path[i].values.length == 0 && path[i].children.length == 0; i--) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.keys = NO_KEYS;
+            root.children = NO_CHILDREN;
+            root.values = NO_VALUES;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> findByPrefix(String prefix, int limit) {
+        return findByPrefix(prefix, limit, value -> true);
+    }
+
+    // Breadth-first over children kept in key order visits completions by length and then
+    // alphabetically, so the walk can stop as soon as limit accepted values are found.
+    public List<Long> findByPrefix(String prefix, int limit, LongPredicate filter) {
+        List<Long> matches = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            Node start = find(prefix);
+            if (start == null) {
+                return matches;
+            }
+            Deque<Node> queue = new ArrayDeque<>();
+            queue.add(start);
+            while (!queue.isEmpty() && matches.size() < limit) {
+                Node node = queue.poll();
+                for (int i = 0; i < node.values.length && matches.size() < limit; i++) {
+                    if (filter.test(node.values[i])) {
+                        matches.add(node.values[i]);
+                    }
+                }
+                Collections.addAll(queue, node.children);
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long nodeCount() {
+        lock.readLock().lock();
+        try {
+            long count = 0;
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                count++;
+                for (Node child : node.children) {
+                    stack.push(child);
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Shallow size assuming compressed oops: 12 byte object header, 4 byte references, 16 byte array header.
+    public long estimatedSizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                bytes += align(12 + 3 * 4);
+                bytes += node.keys.length == 0 ? 0 : align(16 + 2L * node.keys.length);
+                bytes += node.children.length == 0 ? 0 : align(16 + 4L * node.children.length);
+                bytes += node.values.length == 0 ? 0 : align(16 + 8L * node.values.length);
+                for (Node child : node.children) {
+                    stack.push(child);
+                }
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static final class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private long[] values = NO_VALUES;
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node child = new Node();
+
+            char[] newKeys = new char[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            newKeys[insertAt] = key;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newChildren[insertAt] = child;
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        private void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+
+            keys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        private void addValue(long value) {
+            for (long existing : values) {
+                if (existing == value) {
+                    return;
+                }
+            }
+            values = Arrays.copyOf(values, values.length + 1);
+            values[values.length - 1] = value;
+        }
+
+        private void removeValue(long value) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == value) {
+                    long[] newValues = new long[values.length - 1];
+                    System.arraycopy(values, 0, newValues, 0, i);
+                    System.arraycopy(values, i + 1, newValues, i, values.length - i - 1);
+                    values = newValues;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.smbc.school_library.util;
 
+import com.smbc.school_library.dto.response.CatalogResponseDto;
+import com.smbc.school_library.dto.response.MemberResponseDto;
 import com.smbc.school_library.dto.response.RentResponseDto;
+import com.smbc.school_library.dto.response.RentRowDto;
 import com.smbc.school_library.model.entity.Catalog;
 import com.smbc.school_library.model.entity.Rent;
 import lombok.RequiredArgsConstructor;
@@ -35,4 +38,24 @@ public class RentMapper {
                 .map(this::mapEntityToDto)
                 .toList();
     }
+
+    public List<RentResponseDto> mapToDto(List<Rent> entities) {
+        return entities.stream()
+                .map(this::mapEntityToDto)
+                .toList();
+    }
+
+    public List<RentResponseDto> mapRowsToDto(List<RentRowDto> rows) {
+        return rows.stream()
+                .map(row -> RentResponseDto.builder()
+                        .id(row.getId())
+                        .member(new MemberResponseDto(row.getMemberId(), row.getMemberName(), row.getMemberEmail()))
+                        .catalog(new CatalogResponseDto(row.getCatalogId(), row.getCatalogTitle(), row.getCatalogAuthor(),
+                                row.getCatalogIsbn(), row.getCatalogPublisher(), row.getCatalogTotalQty(), row.getCatalogAvailableQty()))
+                        .rentDate(row.getRentDate().toString())
+                        .dueDate(row.getDueDate().toString())
+                        .returnDate(row.getReturnDate() != null ? row.getReturnDate().toString() : null)
+                        .build())
+                .toList();
+    }
 }
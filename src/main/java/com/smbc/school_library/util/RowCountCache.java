@@ -0,0 +1,49 @@
+package com.smbc.school_library.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class RowCountCache {
+    private final Map<String, Supplier<Long>> counters = new ConcurrentHashMap<>();
+    private final Map<String, Long> counts = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public long get(String key, Supplier<Long> counter) {
+        counters.putIfAbsent(key, counter);
+        Long cached = counts.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Count outside the map so a slow COUNT(*) never holds a ConcurrentHashMap bin lock
+        Long count = counter.get();
+        Long previous = counts.putIfAbsent(key, count);
+        return previous != null ? previous : count;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    @Scheduled(fixedDelayString = "${app.pagination.count-refresh-interval:60000}")
+    public void refresh() {
+        counters.forEach((key, counter) -> {
+            try {
+                Long count = counter.get();
+                if (!Objects.equals(counts.put(key, count), count)) {
+                    version.incrementAndGet();
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Failed to refresh row count for {}: {}", key, ex.getMessage());
+            }
+        });
+    }
+}
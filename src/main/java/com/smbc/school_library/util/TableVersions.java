@@ -0,0 +1,33 @@
+package com.smbc.school_library.util;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TableVersions {
+    public static final String CATALOG = "catalog";
+    public static final String MEMBER = "member";
+    public static final String RENT = "rent";
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public long current(String table) {
+        return versions.computeIfAbsent(table, t -> new AtomicLong()).get();
+    }
+
+    public String etag(String... tables) {
+        StringBuilder etag = new StringBuilder(epoch);
+        for (String table : tables) {
+            etag.append('-').append(current(table));
+        }
+        return etag.toString();
+    }
+
+    public void bump(String table) {
+        TransactionUtil.afterCommit(() -> versions.computeIfAbsent(table, t -> new AtomicLong()).incrementAndGet());
+    }
+}
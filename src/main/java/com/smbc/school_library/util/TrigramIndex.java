@@ -0,0 +1,152 @@
+package com.smbc.school_library.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TrigramIndex {
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, List<Set<String>>> documentFields = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : SearchTokenizer.tokenize(text)) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    public void put(Long documentId, List<Set<String>> fieldTrigrams) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+            List<Set<String>> fields = new ArrayList<>(fieldTrigrams.size());
+            for (Set<String> trigrams : fieldTrigrams) {
+                for (String trigram : trigrams) {
+                    postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(documentId);
+                }
+                fields.add(Set.copyOf(trigrams));
+            }
+            documentFields.put(documentId, List.copyOf(fields));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentFields.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Candidates come from the rarest query trigrams first and stop at maxCandidates, so the
+    // cost of a lookup is bounded by maxCandidates * query trigrams whatever the index size.
+    // Each field is scored with the Jaccard similarity pg_trgm uses and a document keeps its best field.
+    public List<Long> search(String query, double minSimilarity, int limit, int maxCandidates) {
+        Set<String> queryTrigrams = trigrams(query);
+        if (queryTrigrams.isEmpty()) {
+            return List.of();
+        }
+
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(
+                Map.Entry.<Long, Double>comparingByValue().thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())));
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> queryPostings = new ArrayList<>();
+            for (String trigram : queryTrigrams) {
+                Set<Long> posting = postings.get(trigram);
+                if (posting != null) {
+                    queryPostings.add(posting);
+                }
+            }
+            queryPostings.sort(Comparator.comparingInt(Set::size));
+
+            Set<Long> candidates = new HashSet<>();
+            for (Set<Long> posting : queryPostings) {
+                if (candidates.size() >= maxCandidates) {
+                    break;
+                }
+                for (Long documentId : posting) {
+                    candidates.add(documentId);
+                    if (candidates.size() >= maxCandidates) {
+                        break;
+                    }
+                }
+            }
+
+            for (Long documentId : candidates) {
+                double similarity = 0;
+                for (Set<String> trigrams : documentFields.get(documentId)) {
+                    similarity = Math.max(similarity, similarity(queryTrigrams, trigrams));
+                }
+                if (similarity < minSimilarity) {
+                    continue;
+                }
+                best.offer(Map.entry(documentId, similarity));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> matches = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            matches.add(best.poll().getKey());
+        }
+        return matches.reversed();
+    }
+
+    private static double similarity(Set<String> queryTrigrams, Set<String> trigrams) {
+        int shared = 0;
+        for (String trigram : queryTrigrams) {
+            if (trigrams.contains(trigram)) {
+                shared++;
+            }
+        }
+        return shared == 0 ? 0 : (double) shared / (queryTrigrams.size() + trigrams.size() - shared);
+    }
+
+    private void removeDocument(Long documentId) {
+        List<Set<String>> fields = documentFields.remove(documentId);
+        if (fields == null) {
+            return;
+        }
+        for (Set<String> trigrams : fields) {
+            for (String trigram : trigrams) {
+                Set<Long> posting = postings.get(trigram);
+                if (posting != null) {
+                    posting.remove(documentId);
+                    if (posting.isEmpty()) {
+                        postings.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+}
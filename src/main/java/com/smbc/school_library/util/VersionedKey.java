@@ -0,0 +1,4 @@
+package com.smbc.school_library.util;
+
+public record VersionedKey<K>(K key, String versions) {
+}
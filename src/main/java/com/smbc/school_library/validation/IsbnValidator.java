@@ -0,0 +1,13 @@
+package com.smbc.school_library.validation;
+
+import com.smbc.school_library.util.IsbnUtil;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class IsbnValidator implements ConstraintValidator<Isbn, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || value.isBlank() || IsbnUtil.isValid(value);
+    }
+}
@@ -0,0 +1,34 @@
+CREATE TABLE catalog (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title         VARCHAR(255),
+    author        VARCHAR(255),
+    isbn          VARCHAR(255),
+    publisher     VARCHAR(255),
+    total_qty     INTEGER,
+    available_qty INTEGER,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    is_deleted    BOOLEAN
+);
+
+CREATE TABLE member (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    full_name  VARCHAR(255) NOT NULL,
+    email      VARCHAR(100) NOT NULL UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    is_active  BOOLEAN,
+    is_deleted BOOLEAN,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE rent (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id   BIGINT NOT NULL REFERENCES member (id),
+    catalog_id  BIGINT NOT NULL REFERENCES catalog (id),
+    rent_date   DATE,
+    due_date    DATE,
+    return_date DATE,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
@@ -0,0 +1,36 @@
+ALTER TABLE catalog ADD COLUMN IF NOT EXISTS normalized_isbn VARCHAR(255);
+
+UPDATE catalog
+SET normalized_isbn = upper(regexp_replace(isbn, '[^0-9Xx]', '', 'g'))
+WHERE normalized_isbn IS NULL AND is_deleted = false;
+
+UPDATE catalog c
+SET normalized_isbn = s.body || (10 - (SELECT sum(substr(s.body, i, 1)::INTEGER * CASE WHEN i % 2 = 1 THEN 1 ELSE 3 END)
+                                       FROM generate_series(1, 12) AS i) % 10) % 10
+FROM (SELECT id, '978' || substr(normalized_isbn, 1, 9) AS body
+      FROM catalog
+      WHERE normalized_isbn ~ '^[0-9]{9}[0-9X]$') s
+WHERE c.id = s.id;
+
+DO $$
+DECLARE
+    cleared RECORD;
+BEGIN
+    FOR cleared IN
+        UPDATE catalog c
+        SET normalized_isbn = NULL
+        FROM (SELECT id, normalized_isbn, first_value(id) OVER (PARTITION BY normalized_isbn ORDER BY is_deleted, id) AS kept_id
+              FROM catalog
+              WHERE normalized_isbn IS NOT NULL) d
+        WHERE c.id = d.id AND (d.normalized_isbn = '' OR d.id <> d.kept_id)
+        RETURNING c.id, c.isbn, d.normalized_isbn, d.kept_id
+    LOOP
+        IF cleared.normalized_isbn = '' THEN
+            RAISE WARNING 'catalog % has no usable isbn (%), normalized_isbn left empty', cleared.id, cleared.isbn;
+        ELSE
+            RAISE WARNING 'catalog % isbn % duplicates catalog %, normalized_isbn left empty', cleared.id, cleared.isbn, cleared.kept_id;
+        END IF;
+    END LOOP;
+END $$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_catalog_normalized_isbn ON catalog (normalized_isbn);
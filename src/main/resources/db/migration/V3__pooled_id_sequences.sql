@@ -0,0 +1,11 @@
+ALTER TABLE catalog ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE member ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE rent ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS catalog_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS member_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS rent_seq INCREMENT BY 50;
+
+SELECT setval('catalog_seq', COALESCE((SELECT max(id) FROM catalog), 0) + 1, false);
+SELECT setval('member_seq', COALESCE((SELECT max(id) FROM member), 0) + 1, false);
+SELECT setval('rent_seq', COALESCE((SELECT max(id) FROM rent), 0) + 1, false);
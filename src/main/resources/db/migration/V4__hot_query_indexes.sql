@@ -0,0 +1,9 @@
+DROP INDEX CONCURRENTLY IF EXISTS ix_rent_overdue;
+DROP INDEX CONCURRENTLY IF EXISTS ix_rent_member_rent_date;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_rent_open_due_date ON rent (due_date, id) WHERE return_date IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_rent_member_history ON rent (member_id, rent_date, id) INCLUDE (catalog_id, due_date, return_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_rent_catalog_id ON rent (catalog_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_catalog_active_id ON catalog (id) WHERE is_deleted = false;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_member_active_id ON member (id) WHERE is_deleted = false;
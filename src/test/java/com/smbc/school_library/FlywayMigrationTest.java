@@ -0,0 +1,69 @@
+package com.smbc.school_library;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Test
+    @DisplayName("migrate - should upgrade a legacy identity schema with messy ISBNs to one Hibernate validates")
+    void migrate_ShouldUpgradeLegacySchema() {
+        flyway().target("1").load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.update("INSERT INTO member (full_name, email, password, is_active, is_deleted) VALUES ('Member Lama', 'lama@mail.com', 'encoded', true, false)");
+        for (String isbn : List.of("0-13-235088-2", "978-0132350884", "", "978-0135957059")) {
+            jdbcTemplate.update("INSERT INTO catalog (title, author, isbn, publisher, total_qty, available_qty, is_deleted) " +
+                    "VALUES ('Buku Lama', 'Author', ?, 'Publisher', 2, 1, false)", isbn);
+        }
+        jdbcTemplate.update("INSERT INTO rent (member_id, catalog_id, rent_date, due_date) " +
+                "SELECT m.id, c.id, CURRENT_DATE, CURRENT_DATE + 7 FROM member m, catalog c WHERE c.isbn = '0-13-235088-2'");
+
+        flyway().load().migrate();
+
+        assertThat(jdbcTemplate.queryForList("SELECT normalized_isbn FROM catalog ORDER BY id", String.class))
+                .containsExactly("9780132350884", null, null, "9780135957059");
+        assertThat(jdbcTemplate.queryForObject("SELECT nextval('catalog_seq')", Long.class))
+                .isGreaterThan(jdbcTemplate.queryForObject("SELECT max(id) FROM catalog", Long.class));
+        assertThat(jdbcTemplate.queryForObject("SELECT nextval('rent_seq')", Long.class))
+                .isGreaterThan(jdbcTemplate.queryForObject("SELECT max(id) FROM rent", Long.class));
+        assertThat(jdbcTemplate.queryForList("SELECT indexname FROM pg_indexes WHERE indexname IN " +
+                "('ux_catalog_normalized_isbn', 'ix_rent_open_due_date', 'ix_rent_member_history', 'ix_rent_catalog_id')", String.class))
+                .hasSize(4);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SchoolLibraryApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "--spring.datasource.username=" + POSTGRES.getUsername(),
+                        "--spring.datasource.password=" + POSTGRES.getPassword(),
+                        "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.flyway.enabled=true",
+                        "--spring.jpa.show-sql=false")) {
+            assertThat(context.isActive()).isTrue();
+        }
+    }
+
+    private static FluentConfiguration flyway() {
+        return Flyway.configure().dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
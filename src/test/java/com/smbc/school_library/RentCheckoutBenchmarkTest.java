@@ -0,0 +1,108 @@
+package com.smbc.school_library;
+
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.model.entity.Member;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RentCheckoutBenchmarkTest {
+    private static final int STOCK = 50;
+    private static final int REQUESTS = 300;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CatalogRepository catalogRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("measure POST /rents throughput when many clients check out one catalog at once")
+    void measureCheckoutStorm() throws Exception {
+        Member member = memberRepository.save(Member.builder()
+                .email("checkout-benchmark@mail.com")
+                .password("encoded")
+                .fullName("Member Checkout")
+                .isActive(true)
+                .isDeleted(false)
+                .build());
+        Catalog catalog = catalogRepository.save(Catalog.builder()
+                .title("Buku Populer")
+                .author("Author Populer")
+                .publisher("Publisher Populer")
+                .isbn("978-0135957059")
+                .normalizedIsbn("9780135957059")
+                .totalQty(STOCK)
+                .availableQty(STOCK)
+                .isDeleted(false)
+                .build());
+        String body = """
+                {"memberId":%d,"catalogId":%d,"rentDate":"%s","dueDate":"%s"}
+                """.formatted(member.getId(), catalog.getId(), LocalDate.now(), LocalDate.now().plusDays(7));
+
+        AtomicInteger rented = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int status = mockMvc.perform(post("/rents")
+                                .with(user(member.getEmail()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn().getResponse().getStatus();
+                (status == 200 ? rented : soldOut).incrementAndGet();
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        System.out.printf("POST /rents: %d requests on %d threads in %d ms (%.0f req/s), %d rented, %d sold out%n",
+                REQUESTS, THREADS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                REQUESTS / (elapsedNanos / 1_000_000_000.0), rented.get(), soldOut.get());
+
+        assertThat(rented.get()).isEqualTo(STOCK);
+        assertThat(soldOut.get()).isEqualTo(REQUESTS - STOCK);
+    }
+}
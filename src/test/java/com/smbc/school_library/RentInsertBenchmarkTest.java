@@ -0,0 +1,91 @@
+package com.smbc.school_library;
+
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.model.entity.Member;
+import com.smbc.school_library.model.entity.Rent;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.repository.RentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RentInsertBenchmarkTest {
+    private static final int RENTS = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Test
+    @DisplayName("measure insert throughput for 100k rents with and without JDBC batching")
+    void measureRentInsertThroughput() {
+        double unbatched = run(0);
+        double batched = run(50);
+
+        System.out.printf("rent inserts: %.0f rows/s unbatched (one round trip per row), %.0f rows/s batched%n",
+                unbatched, batched);
+
+        assertThat(batched).isGreaterThan(unbatched);
+    }
+
+    private double run(int batchSize) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SchoolLibraryApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize)
+                .run()) {
+            Member member = context.getBean(MemberRepository.class).save(Member.builder()
+                    .email("insert-benchmark@mail.com")
+                    .password("encoded")
+                    .fullName("Member Benchmark")
+                    .isActive(true)
+                    .isDeleted(false)
+                    .build());
+            Catalog catalog = context.getBean(CatalogRepository.class).save(Catalog.builder()
+                    .title("Buku Benchmark")
+                    .author("Author Benchmark")
+                    .publisher("Publisher Benchmark")
+                    .isbn("9780000099999")
+                    .normalizedIsbn("9780000099999")
+                    .totalQty(RENTS)
+                    .availableQty(RENTS)
+                    .isDeleted(false)
+                    .build());
+
+            EntityManager entityManager = context.getBean(EntityManager.class);
+            TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+            long startedAt = System.nanoTime();
+            for (int chunk = 0; chunk < RENTS; chunk += CHUNK_SIZE) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Member memberRef = entityManager.getReference(Member.class, member.getId());
+                    Catalog catalogRef = entityManager.getReference(Catalog.class, catalog.getId());
+                    for (int i = 0; i < CHUNK_SIZE; i++) {
+                        entityManager.persist(Rent.builder()
+                                .member(memberRef)
+                                .catalog(catalogRef)
+                                .rentDate(LocalDate.now())
+                                .dueDate(LocalDate.now().plusDays(7))
+                                .build());
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+            }
+            long elapsed = System.nanoTime() - startedAt;
+
+            assertThat(context.getBean(RentRepository.class).count()).isEqualTo(RENTS);
+            return RENTS / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.smbc.school_library;
+
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.model.entity.Member;
+import com.smbc.school_library.model.entity.Rent;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.repository.RentRepository;
+import com.smbc.school_library.service.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadBenchmarkTest {
+    private static final int CATALOGS = 200;
+    private static final int MEMBERS = 500;
+    private static final int RENTS_PER_MEMBER = 20;
+    private static final String[] STATUSES = {"ALL", "ACTIVE", "RETURNED"};
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+    private static final int CONCURRENCY = 400;
+
+    @Test
+    @DisplayName("compare member rent history latency and throughput on platform and virtual request threads")
+    void compareRequestThreadModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.println("GET /members/{id}/rents over " + MEMBERS + " members, uncached JPA reads on H2 in-memory"
+                + " (no real disk or network I/O, so blocking time is shorter than against PostgreSQL)");
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SchoolLibraryApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.hikari.maximum-pool-size=20")
+                .run()) {
+            List<Long> memberIds = new ArrayList<>();
+            String token = seed(context, memberIds);
+            String port = context.getEnvironment().getProperty("local.server.port");
+            IntFunction<URI> uris = index -> URI.create("http://localhost:" + port + "/api/v1/members/"
+                    + memberIds.get(index % memberIds.size()) + "/rents?pageSize=20&status=" + STATUSES[index % STATUSES.length]);
+
+            try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+                fire(client, uris, token, WARMUP_REQUESTS);
+                long startedAt = System.nanoTime();
+                long[] latencies = fire(client, uris, token, REQUESTS);
+                long elapsed = System.nanoTime() - startedAt;
+                return Result.of(virtualThreads ? "virtual" : "platform", latencies, elapsed);
+            }
+        }
+    }
+
+    private String seed(ConfigurableApplicationContext context, List<Long> memberIds) {
+        CatalogRepository catalogRepository = context.getBean(CatalogRepository.class);
+        List<Catalog> catalogs = new ArrayList<>();
+        for (int i = 0; i < CATALOGS; i++) {
+            catalogs.add(Catalog.builder()
+                    .title("Buku Benchmark " + i)
+                    .author("Author " + i)
+                    .publisher("Publisher " + i)
+                    .isbn("978" + String.format("%010d", i))
+                    .normalizedIsbn("978" + String.format("%010d", i))
+                    .totalQty(5)
+                    .availableQty(5)
+                    .isDeleted(false)
+                    .build());
+        }
+        catalogs = catalogRepository.saveAll(catalogs);
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(Member.builder()
+                    .email("benchmark" + i + "@mail.com")
+                    .password("encoded")
+                    .fullName("Member Benchmark " + i)
+                    .isActive(true)
+                    .isDeleted(false)
+                    .build());
+        }
+        members = context.getBean(MemberRepository.class).saveAll(members);
+
+        List<Rent> rents = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int m = 0; m < MEMBERS; m++) {
+            memberIds.add(members.get(m).getId());
+            for (int r = 0; r < RENTS_PER_MEMBER; r++) {
+                LocalDate rentDate = today.minusDays(r * 7L);
+                rents.add(Rent.builder()
+                        .member(members.get(m))
+                        .catalog(catalogs.get((m + r) % CATALOGS))
+                        .rentDate(rentDate)
+                        .dueDate(rentDate.plusDays(14))
+                        .returnDate(r % 2 == 0 ? null : rentDate.plusDays(5))
+                        .build());
+            }
+        }
+        context.getBean(RentRepository.class).saveAll(rents);
+        return context.getBean(JwtService.class).generateToken(members.getFirst());
+    }
+
+    private long[] fire(HttpClient client, IntFunction<URI> uris, String token, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                inFlight.acquire();
+                futures.add(callers.submit(() -> {
+                    try {
+                        HttpRequest request = HttpRequest.newBuilder(uris.apply(index)).header("Authorization", "Bearer " + token).GET().build();
+                        long startedAt = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[index] = response.statusCode() == 200 ? System.nanoTime() - startedAt : -1;
+                    } finally {
+                        inFlight.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+        return latencies;
+    }
+
+    private record Result(String mode, long p50Micros, long p99Micros, double requestsPerSecond, long failures) {
+
+        static Result of(String mode, long[] latencies, long elapsedNanos) {
+            long failures = Arrays.stream(latencies).filter(latency -> latency < 0).count();
+            long[] sorted = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            return new Result(mode,
+                    TimeUnit.NANOSECONDS.toMicros(sorted[(int) (sorted.length * 0.50)]),
+                    TimeUnit.NANOSECONDS.toMicros(sorted[Math.min(sorted.length - 1, (int) (sorted.length * 0.99))]),
+                    latencies.length / (elapsedNanos / 1_000_000_000.0),
+                    failures);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s threads: p50 %d us, p99 %d us, %.0f req/s, %d failures",
+                    mode, p50Micros, p99Micros, requestsPerSecond, failures);
+        }
+    }
+}
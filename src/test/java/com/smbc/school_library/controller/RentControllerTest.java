@@ -0,0 +1,101 @@
+package com.smbc.school_library.controller;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.service.RentService;
+import com.smbc.school_library.util.RowCountCache;
+import com.smbc.school_library.util.TableVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class RentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TableVersions tableVersions;
+
+    @Autowired
+    private RowCountCache rowCountCache;
+
+    @MockitoBean
+    private RentService rentService;
+
+    @BeforeEach
+    void setUp() {
+        when(rentService.getRents(any())).thenReturn(ApiResponse.success(List.of(), "Rents retrieved successfully"));
+    }
+
+    @Test
+    @DisplayName("GET /rents - should answer 304 without loading rents while the tag matches")
+    void getRents_ShouldAnswerNotModified_WhenTagMatches() throws Exception {
+        String etag = fetchEtag("/rents?page=0&pageSize=10");
+
+        mockMvc.perform(get("/rents?page=0&pageSize=10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        verify(rentService, times(1)).getRents(any());
+    }
+
+    @Test
+    @DisplayName("GET /rents - should issue a new tag after a write")
+    void getRents_ShouldIssueNewTag_AfterWrite() throws Exception {
+        String etag = fetchEtag("/rents?page=0&pageSize=10");
+
+        tableVersions.bump(TableVersions.RENT);
+
+        String refreshed = mockMvc.perform(get("/rents?page=0&pageSize=10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(refreshed).isNotNull().isNotEqualTo(etag);
+        verify(rentService, times(2)).getRents(any());
+    }
+
+    @Test
+    @DisplayName("GET /rents - should issue a new tag for estimated counts when the row counts refresh")
+    void getRents_ShouldIssueNewTag_WhenEstimatedCountsRefresh() throws Exception {
+        AtomicLong rows = new AtomicLong(10);
+        rowCountCache.get("rent-controller-test", rows::get);
+        String etag = fetchEtag("/rents?page=0&pageSize=10&count=ESTIMATED");
+
+        rows.incrementAndGet();
+        rowCountCache.refresh();
+
+        mockMvc.perform(get("/rents?page=0&pageSize=10&count=ESTIMATED").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/rents?page=0&pageSize=10").header(HttpHeaders.IF_NONE_MATCH, fetchEtag("/rents?page=0&pageSize=10")))
+                .andExpect(status().isNotModified());
+    }
+
+    private String fetchEtag(String uri) throws Exception {
+        String etag = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        return etag;
+    }
+}
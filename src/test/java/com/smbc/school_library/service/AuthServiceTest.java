@@ -5,6 +5,7 @@ import com.smbc.school_library.dto.request.LoginMemberDto;
 import com.smbc.school_library.dto.request.RegisterMemberDto;
 import com.smbc.school_library.model.entity.Member;
 import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.util.TableVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +39,9 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private TableVersions tableVersions;
+
     @InjectMocks
     private AuthService authService;
 
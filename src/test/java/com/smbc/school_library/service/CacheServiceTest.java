@@ -0,0 +1,96 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.response.CacheRegionStatsDto;
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.repository.CatalogRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class CacheServiceTest {
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private CatalogRepository catalogRepository;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("second-level cache - should serve repeated loads from cache and hide soft-deleted catalogs")
+    void secondLevelCache_ShouldServeRepeatedLoads_AndRespectSoftDelete() {
+        Catalog catalog = catalogRepository.save(Catalog.builder()
+                .title("Buku Cache")
+                .author("Author Cache")
+                .publisher("Publisher Cache")
+                .isbn("9786666666666")
+                .normalizedIsbn("9786666666666")
+                .totalQty(1)
+                .availableQty(1)
+                .isDeleted(false)
+                .build());
+        long hitsBefore = catalogRegion().getHitCount();
+
+        assertThat(catalogRepository.findById(catalog.getId())).isPresent();
+        assertThat(catalogRepository.findById(catalog.getId())).isPresent();
+
+        assertThat(catalogRegion().getHitCount()).isGreaterThan(hitsBefore);
+
+        catalogService.deleteCatalog(catalog.getId());
+
+        assertThat(catalogRepository.findById(catalog.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reserveCopy - should evict only the reserved catalog from the second-level cache")
+    void reserveCopy_ShouldEvictOnlyReservedCatalog() {
+        Catalog reserved = catalogRepository.save(cacheableCatalog("9780132350884"));
+        Catalog untouched = catalogRepository.save(cacheableCatalog("9780135957059"));
+        catalogRepository.findById(reserved.getId());
+        catalogRepository.findById(untouched.getId());
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(Catalog.class, reserved.getId())).isTrue();
+
+        assertThat(catalogRepository.reserveCopy(reserved.getId())).isEqualTo(1);
+
+        assertThat(cache.contains(Catalog.class, reserved.getId())).isFalse();
+        assertThat(cache.contains(Catalog.class, untouched.getId())).isTrue();
+        assertThat(catalogRepository.findById(reserved.getId()))
+                .hasValueSatisfying(catalog -> assertThat(catalog.getAvailableQty()).isEqualTo(1));
+    }
+
+    private Catalog cacheableCatalog(String isbn) {
+        return Catalog.builder()
+                .title("Buku Cache " + isbn)
+                .author("Author Cache")
+                .publisher("Publisher Cache")
+                .isbn(isbn)
+                .normalizedIsbn(isbn)
+                .totalQty(2)
+                .availableQty(2)
+                .isDeleted(false)
+                .build();
+    }
+
+    private CacheRegionStatsDto catalogRegion() {
+        return cacheService.getStatistics().getData().stream()
+                .filter(region -> region.getRegion().equals("catalog"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,112 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.response.CatalogResponseDto;
+import com.smbc.school_library.dto.response.ImportResultDto;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.util.DataFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@TestPropertySource(properties = "app.import.batch-size=2")
+class CatalogImportServiceTest {
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @MockitoSpyBean
+    private CatalogRepository catalogRepository;
+
+    @Autowired
+    private CatalogSearchService catalogSearchService;
+
+    @Test
+    @DisplayName("importCatalogs - should insert valid CSV rows and reject invalid, bad-checksum or duplicate ones")
+    void importCatalogs_ShouldInsertValidCsvRows() throws Exception {
+        String csv = """
+                title,author,isbn,publisher,totalQty
+                "Buku Import, Jilid 1",Author A,978-1111111113,Publisher A,3
+                Buku Import 2,Author B,9781111111120,Publisher B,2
+                Buku Import 3,Author C,978-1111111113,Publisher C,1
+                ,Author D,9781111111137,Publisher D,1
+                Buku Import 5,Author E,9781111111144,Publisher E,abc
+                Buku Import 6,Author F,9781111111151,Publisher F,4
+                Buku Import 7,Author G,978-1111111112,Publisher G,1
+                """;
+
+        ImportResultDto result = catalogImportService.importCatalogs(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), DataFormat.CSV).getData();
+
+        assertThat(result.getAccepted()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(4);
+        assertThat(result.getErrors()).hasSize(4);
+        assertThat(catalogRepository.findByNormalizedIsbn("9781111111113"))
+                .hasValueSatisfying(catalog -> {
+                    assertThat(catalog.getTitle()).isEqualTo("Buku Import, Jilid 1");
+                    assertThat(catalog.getAvailableQty()).isEqualTo(3);
+                    assertThat(catalogSearchService.getDocument(catalog.getId()))
+                            .extracting(CatalogResponseDto::getTitle)
+                            .isEqualTo("Buku Import, Jilid 1");
+                });
+    }
+
+    @Test
+    @DisplayName("importCatalogs - should reject NDJSON rows whose isbn already exists")
+    void importCatalogs_ShouldRejectExistingIsbns() throws Exception {
+        String ndjson = """
+                {"title":"Buku Json","author":"Author J","isbn":"9782222222224","publisher":"Publisher J","totalQty":1}
+                {"title":"Buku Json Lagi","author":"Author J","isbn":"9782222222231","publisher":"Publisher J","totalQty":1}
+                not json
+                """;
+        catalogImportService.importCatalogs(new ByteArrayInputStream(
+                ndjson.lines().findFirst().orElseThrow().getBytes(StandardCharsets.UTF_8)), DataFormat.NDJSON);
+
+        ImportResultDto result = catalogImportService.importCatalogs(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), DataFormat.NDJSON).getData();
+
+        assertThat(result.getAccepted()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(2);
+        assertThat(catalogRepository.existsByNormalizedIsbn("9782222222231")).isTrue();
+    }
+
+    @Test
+    @DisplayName("importCatalogs - should reject only the conflicting row when an isbn is inserted after the existence check")
+    void importCatalogs_ShouldRetryRowByRow_WhenBatchHitsUniqueIndex() throws Exception {
+        catalogImportService.importCatalogs(new ByteArrayInputStream(
+                "{\"title\":\"Buku Lama\",\"author\":\"Author K\",\"isbn\":\"9783333333335\",\"publisher\":\"Publisher K\",\"totalQty\":1}"
+                        .getBytes(StandardCharsets.UTF_8)), DataFormat.NDJSON);
+        // Simulate a concurrent writer committing the isbn between the existence check and the insert
+        doReturn(Set.of()).when(catalogRepository).findExistingNormalizedIsbns(any());
+        String csv = """
+                title,author,isbn,publisher,totalQty
+                Buku Balapan,Author K,978-3333333335,Publisher K,1
+                Buku Baru,Author L,9784444444446,Publisher L,2
+                """;
+
+        ImportResultDto result = catalogImportService.importCatalogs(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), DataFormat.CSV).getData();
+
+        assertThat(result.getAccepted()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getErrors()).containsExactly("line 2: catalog already exists with isbn: 978-3333333335");
+        assertThat(catalogRepository.findByNormalizedIsbn("9783333333335"))
+                .hasValueSatisfying(catalog -> assertThat(catalog.getTitle()).isEqualTo("Buku Lama"));
+        assertThat(catalogRepository.existsByNormalizedIsbn("9784444444446")).isTrue();
+    }
+}
@@ -0,0 +1,144 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.request.PageRequestDto;
+import com.smbc.school_library.dto.response.CatalogResponseDto;
+import com.smbc.school_library.exception.ServiceBusyException;
+import com.smbc.school_library.util.RowCountCache;
+import com.smbc.school_library.util.TableVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogResponseCacheServiceTest {
+
+    @Mock
+    private CatalogService catalogService;
+
+    private TableVersions tableVersions;
+    private MutableClock clock;
+    private CatalogResponseCacheService catalogResponseCacheService;
+    private PageRequestDto pageRequest;
+
+    @BeforeEach
+    void setUp() {
+        tableVersions = new TableVersions();
+        clock = new MutableClock(Instant.parse("2026-01-05T08:00:00Z"));
+        catalogResponseCacheService = new CatalogResponseCacheService(catalogService, tableVersions, new RowCountCache(), JsonMapper.builder().build(), 16, 64, true, Duration.ofMinutes(5), clock);
+        pageRequest = PageRequestDto.builder().page(0).pageSize(10).build();
+        CatalogResponseDto catalog = new CatalogResponseDto(1L, "Clean Code", "Robert C. Martin", "9780132350884", "Prentice Hall", 5, 5);
+        when(catalogService.getCatalogs(pageRequest)).thenReturn(ApiResponse.success(List.of(catalog), "Catalogs retrieved successfully"));
+    }
+
+    @Test
+    @DisplayName("getCatalogs - should serve repeated pages from cached bytes")
+    void getCatalogs_ShouldServeCachedBytes_ForRepeatedPages() {
+        CatalogResponseCacheService.SerializedResponse first = catalogResponseCacheService.getCatalogs(pageRequest, false);
+        CatalogResponseCacheService.SerializedResponse second = catalogResponseCacheService.getCatalogs(pageRequest, false);
+
+        assertThat(new String(first.body(), StandardCharsets.UTF_8)).contains("\"title\":\"Clean Code\"");
+        assertThat(second.body()).isSameAs(first.body());
+        verify(catalogService, times(1)).getCatalogs(pageRequest);
+    }
+
+    @Test
+    @DisplayName("getCatalogs - should reload the page after the catalog version is bumped")
+    void getCatalogs_ShouldReload_AfterVersionBump() {
+        catalogResponseCacheService.getCatalogs(pageRequest, false);
+        tableVersions.bump(TableVersions.CATALOG);
+        catalogResponseCacheService.getCatalogs(pageRequest, false);
+
+        verify(catalogService, times(2)).getCatalogs(pageRequest);
+    }
+
+    @Test
+    @DisplayName("getCatalogs - should return gzip bytes when the client accepts them")
+    void getCatalogs_ShouldReturnGzip_WhenAccepted() throws IOException {
+        CatalogResponseCacheService.SerializedResponse plain = catalogResponseCacheService.getCatalogs(pageRequest, false);
+        CatalogResponseCacheService.SerializedResponse gzipped = catalogResponseCacheService.getCatalogs(pageRequest, true);
+
+        assertThat(plain.gzipped()).isFalse();
+        assertThat(gzipped.gzipped()).isTrue();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.body()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.body());
+        }
+    }
+
+    @Test
+    @DisplayName("getCatalogs - should serve the last good page marked stale when the database is unavailable")
+    void getCatalogs_ShouldServeStaleSnapshot_WhenDatabaseFails() {
+        catalogResponseCacheService.getCatalogs(pageRequest, true);
+        tableVersions.bump(TableVersions.CATALOG);
+        when(catalogService.getCatalogs(pageRequest)).thenThrow(new CannotCreateTransactionException("Connection is not available"));
+        clock.advance(Duration.ofMinutes(1));
+
+        CatalogResponseCacheService.SerializedResponse response = catalogResponseCacheService.getCatalogs(pageRequest, true);
+
+        assertThat(response.stale()).isTrue();
+        assertThat(response.gzipped()).isFalse();
+        assertThat(new String(response.body(), StandardCharsets.UTF_8))
+                .contains("\"stale\":true")
+                .contains("\"asOf\":\"2026-01-05T08:00:00Z\"")
+                .contains("\"title\":\"Clean Code\"");
+    }
+
+    @Test
+    @DisplayName("getCatalogs - should fail once the last good page is older than the staleness limit")
+    void getCatalogs_ShouldThrowServiceBusy_WhenSnapshotTooOld() {
+        catalogResponseCacheService.getCatalogs(pageRequest, false);
+        tableVersions.bump(TableVersions.CATALOG);
+        when(catalogService.getCatalogs(pageRequest)).thenThrow(new CannotCreateTransactionException("Connection is not available"));
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThatThrownBy(() -> catalogResponseCacheService.getCatalogs(pageRequest, false))
+                .isInstanceOf(ServiceBusyException.class);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.request.PageRequestDto;
+import com.smbc.school_library.dto.response.CatalogResponseDto;
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.util.CatalogMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSearchServiceTest {
+
+    @Mock
+    private CatalogRepository catalogRepository;
+
+    private CatalogSearchService catalogSearchService;
+
+    @BeforeEach
+    void setUp() {
+        catalogSearchService = new CatalogSearchService(catalogRepository, new CatalogMapper());
+    }
+
+    @Test
+    @DisplayName("search - should rank title matches above author and publisher matches")
+    void search_ShouldRankTitleMatchesFirst() {
+        when(catalogRepository.findAll()).thenReturn(List.of(
+                catalog(1L, "Cooking Basics", "Jane Potter", "Garden Press", "9780000000002"),
+                catalog(2L, "Harry Potter", "J. K. Rowling", "Bloomsbury", "9780747532699"),
+                catalog(3L, "Pottery", "Sam Clay", "Potter House", "9780000000019")));
+        catalogSearchService.rebuild();
+
+        ApiResponse<List<CatalogResponseDto>> response = catalogSearchService.search("potter", false, page(0, 10));
+
+        assertThat(response.getData()).extracting(CatalogResponseDto::getId).containsExactly(2L, 1L, 3L);
+        assertThat(response.getPagination().getTotalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("search - should page through ranked matches and find catalogs by compacted isbn")
+    void search_ShouldPageMatches_AndMatchIsbn() {
+        when(catalogRepository.findAll()).thenReturn(List.of(
+                catalog(1L, "Java Basics", "Author A", "Publisher A", "978-0-00-000000-2"),
+                catalog(2L, "Java Patterns", "Author B", "Publisher B", "9780000000019"),
+                catalog(3L, "Java Streams", "Author C", "Publisher C", "9780000000026")));
+        catalogSearchService.rebuild();
+
+        ApiResponse<List<CatalogResponseDto>> secondPage = catalogSearchService.search("java", false, page(1, 2));
+
+        assertThat(secondPage.getData()).extracting(CatalogResponseDto::getId).containsExactly(3L);
+        assertThat(secondPage.getPagination().getCurrentPage()).isEqualTo(2);
+        assertThat(secondPage.getPagination().getTotalPages()).isEqualTo(2);
+        assertThat(catalogSearchService.search("9780000000002", false, page(0, 10)).getData())
+                .extracting(CatalogResponseDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("rebuild - should keep serving the previous index until the new one is published")
+    void rebuild_ShouldServePreviousIndex_WhileReloading() throws Exception {
+        when(catalogRepository.findAll()).thenReturn(List.of(catalog(1L, "Clean Code", "Robert Martin", "Prentice Hall", "9780132350884")));
+        catalogSearchService.rebuild();
+
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch releaseReload = new CountDownLatch(1);
+        when(catalogRepository.findAll()).thenAnswer(invocation -> {
+            reloadStarted.countDown();
+            releaseReload.await(5, TimeUnit.SECONDS);
+            return List.of(catalog(1L, "Clean Code", "Robert Martin", "Prentice Hall", "9780132350884"));
+        });
+        CompletableFuture<Void> reload = CompletableFuture.runAsync(catalogSearchService::rebuild);
+        assertThat(reloadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(catalogSearchService.search("clean", false, page(0, 10)).getData()).hasSize(1);
+        catalogSearchService.index(catalog(2L, "Clean Architecture", "Robert Martin", "Prentice Hall", "9780134494166"));
+
+        releaseReload.countDown();
+        reload.get(5, TimeUnit.SECONDS);
+
+        assertThat(catalogSearchService.search("clean", false, page(0, 10)).getData())
+                .extracting(CatalogResponseDto::getId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private PageRequestDto page(int page, int pageSize) {
+        return PageRequestDto.builder().page(page).pageSize(pageSize).build();
+    }
+
+    private Catalog catalog(Long id, String title, String author, String publisher, String isbn) {
+        return Catalog.builder()
+                .id(id)
+                .title(title)
+                .author(author)
+                .publisher(publisher)
+                .isbn(isbn)
+                .totalQty(1)
+                .availableQty(1)
+                .isDeleted(false)
+                .build();
+    }
+}
@@ -5,11 +5,13 @@ import com.smbc.school_library.dto.request.AddCatalogRequestDto;
 import com.smbc.school_library.dto.request.EditCatalogRequestDto;
 import com.smbc.school_library.dto.request.PageRequestDto;
 import com.smbc.school_library.dto.response.CatalogResponseDto;
+import com.smbc.school_library.exception.ResourceExistException;
 import com.smbc.school_library.exception.ResourceNotFoundException;
 import com.smbc.school_library.model.entity.Catalog;
 import com.smbc.school_library.repository.CatalogRepository;
 import com.smbc.school_library.util.CatalogMapper;
 import com.smbc.school_library.util.PageUtil;
+import com.smbc.school_library.util.TableVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,15 +24,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +52,15 @@ class CatalogServiceTest {
     @Mock
     private CatalogMapper catalogMapper;
 
+    @Mock
+    private CatalogSearchService catalogSearchService;
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private TableVersions tableVersions;
+
     @InjectMocks
     private CatalogService catalogService;
 
@@ -86,6 +105,44 @@ class CatalogServiceTest {
                     .build();
         }
 
+        @Test
+        @DisplayName("should start a new load for a request that arrives after a write commits mid-load")
+        void shouldStartNewLoad_WhenWriteCommitsDuringLoad() throws Exception {
+            TableVersions versions = new TableVersions();
+            CatalogService versionedService = new CatalogService(catalogRepository, catalogMapper, null, catalogSearchService, cacheService, versions);
+            Page<Catalog> beforeWrite = new PageImpl<>(List.of(catalog));
+            Page<Catalog> afterWrite = new PageImpl<>(List.of());
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            when(catalogRepository.findAll(any(Pageable.class)))
+                    .thenAnswer(invocation -> {
+                        loading.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                        return beforeWrite;
+                    })
+                    .thenReturn(afterWrite);
+            when(catalogMapper.mapToDto(beforeWrite)).thenReturn(List.of(catalogResponseDto));
+            when(catalogMapper.mapToDto(afterWrite)).thenReturn(List.of());
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<ApiResponse<List<CatalogResponseDto>>> stale = executor.submit(() -> versionedService.getCatalogs(pageRequestDto));
+                assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+                versions.bump(TableVersions.CATALOG);
+                Future<ApiResponse<List<CatalogResponseDto>>> fresh = executor.submit(() -> versionedService.getCatalogs(pageRequestDto));
+
+                assertThat(fresh.get(5, TimeUnit.SECONDS).getData()).isEmpty();
+                release.countDown();
+                assertThat(stale.get(5, TimeUnit.SECONDS).getData()).containsExactly(catalogResponseDto);
+            } finally {
+                release.countDown();
+                executor.shutdownNow();
+            }
+            verify(catalogRepository, times(2)).findAll(any(Pageable.class));
+        }
+
         @Test
         @DisplayName("should return paginated catalog list with success response")
         void shouldReturnPaginatedCatalogList() {
@@ -164,6 +221,75 @@ class CatalogServiceTest {
                 verify(catalogMapper).mapToDto(catalogPage);
             }
         }
+
+        @Test
+        @DisplayName("should page by id and return next cursor in cursor mode")
+        void shouldPageById_AndReturnNextCursor_InCursorMode() {
+            Catalog nextCatalog = Catalog.builder().id(2L).title("Buku Dua").build();
+            pageRequestDto = PageRequestDto.builder()
+                    .page(0)
+                    .pageSize(1)
+                    .mode(PageRequestDto.PageMode.CURSOR)
+                    .build();
+
+            when(catalogRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                    .thenReturn(List.of(catalog, nextCatalog));
+            when(catalogMapper.mapToDto(List.of(catalog))).thenReturn(List.of(catalogResponseDto));
+
+            ApiResponse<List<CatalogResponseDto>> response = catalogService.getCatalogs(pageRequestDto);
+
+            assertThat(response.getData()).containsExactly(catalogResponseDto);
+            assertThat(response.getPagination().getHasNext()).isTrue();
+            assertThat(response.getPagination().getNextCursor()).isEqualTo(PageUtil.encodeCursor(1L));
+            verify(catalogRepository).findByIdGreaterThanOrderByIdAsc(eq(0L), argThat((Pageable pageable) ->
+                    pageable.getPageNumber() == 0 && pageable.getPageSize() == 2
+            ));
+            verify(catalogRepository, never()).findAll(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("should resume after the decoded cursor id in cursor mode")
+        void shouldResumeAfterDecodedCursorId_InCursorMode() {
+            pageRequestDto = PageRequestDto.builder()
+                    .page(0)
+                    .pageSize(10)
+                    .mode(PageRequestDto.PageMode.CURSOR)
+                    .cursor(PageUtil.encodeCursor(1L))
+                    .build();
+
+            when(catalogRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any(Pageable.class)))
+                    .thenReturn(List.of());
+            when(catalogMapper.mapToDto(List.<Catalog>of())).thenReturn(List.of());
+
+            ApiResponse<List<CatalogResponseDto>> response = catalogService.getCatalogs(pageRequestDto);
+
+            assertThat(response.getData()).isEmpty();
+            assertThat(response.getPagination().getHasNext()).isFalse();
+            assertThat(response.getPagination().getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should skip the count query when count mode is NONE")
+        void shouldSkipCountQuery_WhenCountModeIsNone() {
+            pageRequestDto = PageRequestDto.builder()
+                    .page(0)
+                    .pageSize(1)
+                    .count(PageRequestDto.CountMode.NONE)
+                    .build();
+            Slice<Catalog> catalogSlice = new SliceImpl<>(List.of(catalog), Pageable.ofSize(1), true);
+
+            when(catalogRepository.findAllAsSlice(any(Pageable.class))).thenReturn(catalogSlice);
+            when(catalogMapper.mapToDto(List.of(catalog))).thenReturn(List.of(catalogResponseDto));
+
+            ApiResponse<List<CatalogResponseDto>> response = catalogService.getCatalogs(pageRequestDto);
+
+            assertThat(response.getData()).containsExactly(catalogResponseDto);
+            assertThat(response.getPagination().getHasNext()).isTrue();
+            assertThat(response.getPagination().getTotalElements()).isNull();
+            assertThat(response.getPagination().getTotalExact()).isNull();
+            verify(catalogRepository, never()).findAll(any(Pageable.class));
+            verify(catalogRepository, never()).count();
+        }
     }
 
     @Nested
@@ -245,6 +371,44 @@ class CatalogServiceTest {
 
             verify(catalogMapper).mapToDto(catalog);
         }
+
+        @Test
+        @DisplayName("should store ISBN-10 normalized to ISBN-13")
+        void shouldStoreNormalizedIsbn() {
+            addRequest.setIsbn("0-13-235088-2");
+            when(catalogRepository.save(any(Catalog.class))).thenReturn(catalog);
+            when(catalogMapper.mapToDto(catalog)).thenReturn(catalogResponseDto);
+
+            catalogService.addCatalog(addRequest);
+
+            verify(catalogRepository).save(argThat(saved ->
+                    saved.getIsbn().equals("0-13-235088-2") &&
+                            saved.getNormalizedIsbn().equals("9780132350884")
+            ));
+        }
+
+        @Test
+        @DisplayName("should throw ResourceExistException when isbn already exists")
+        void shouldThrowResourceExistException_WhenIsbnAlreadyExists() {
+            when(catalogRepository.existsByNormalizedIsbn("9780132350884")).thenReturn(true);
+
+            assertThatThrownBy(() -> catalogService.addCatalog(addRequest))
+                    .isInstanceOf(ResourceExistException.class)
+                    .hasMessage("Catalog already exists with isbn: 978-0132350884");
+
+            verify(catalogRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should add saved catalog to the search index")
+        void shouldAddSavedCatalog_ToSearchIndex() {
+            when(catalogRepository.save(any(Catalog.class))).thenReturn(catalog);
+            when(catalogMapper.mapToDto(catalog)).thenReturn(catalogResponseDto);
+
+            catalogService.addCatalog(addRequest);
+
+            verify(catalogSearchService).index(catalog);
+        }
     }
 
     @Nested
@@ -302,7 +466,7 @@ class CatalogServiceTest {
                     .title("Test Book")
                     .author("Author")
                     .publisher("Publisher")
-                    .isbn("123-456")
+                    .isbn("978-0134494166")
                     .totalQty(7)
                     .build();
 
@@ -397,6 +561,16 @@ class CatalogServiceTest {
             verify(catalogRepository, never()).save(any());
         }
 
+        @Test
+        @DisplayName("should evict the deleted catalog from the second-level cache")
+        void shouldEvictDeletedCatalogFromCache() {
+            when(catalogRepository.findById(1L)).thenReturn(Optional.of(catalog));
+
+            catalogService.deleteCatalog(1L);
+
+            verify(cacheService).evictAfterCommit(Catalog.class, 1L);
+        }
+
         @Test
         @DisplayName("should return null data in success response")
         void shouldReturnNullData_InSuccessResponse() {
@@ -406,5 +580,15 @@ class CatalogServiceTest {
 
             assertThat(response.getData()).isNull();
         }
+
+        @Test
+        @DisplayName("should remove deleted catalog from the search index")
+        void shouldRemoveDeletedCatalog_FromSearchIndex() {
+            when(catalogRepository.findById(1L)).thenReturn(Optional.of(catalog));
+
+            catalogService.deleteCatalog(1L);
+
+            verify(catalogSearchService).remove(1L);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.util.DataFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ExportServiceTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private CatalogRepository catalogRepository;
+
+    @Test
+    @DisplayName("exportCatalogs - should stream every catalog as CSV and NDJSON")
+    void exportCatalogs_ShouldStreamEveryCatalog() throws Exception {
+        Catalog catalog = catalogRepository.save(Catalog.builder()
+                .title("Buku Export, Edisi \"Spesial\"")
+                .author("Author Export")
+                .publisher("Publisher Export")
+                .isbn("978-3333333333")
+                .normalizedIsbn("9783333333333")
+                .totalQty(2)
+                .availableQty(2)
+                .isDeleted(false)
+                .build());
+        long total = catalogRepository.count();
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        exportService.exportCatalogs(DataFormat.CSV, csv);
+        String[] csvLines = csv.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(csvLines[0]).isEqualTo("id,title,author,isbn,publisher,totalQty,availableQty");
+        assertThat(csvLines).hasSize((int) total + 1);
+        assertThat(csvLines).contains(catalog.getId() + ",\"Buku Export, Edisi \"\"Spesial\"\"\",Author Export,978-3333333333,Publisher Export,2,2");
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        exportService.exportCatalogs(DataFormat.NDJSON, ndjson);
+
+        assertThat(ndjson.toString(StandardCharsets.UTF_8).lines()).hasSize((int) total);
+        assertThat(ndjson.toString(StandardCharsets.UTF_8)).contains("\"isbn\":\"978-3333333333\"");
+    }
+}
@@ -0,0 +1,64 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.model.entity.Member;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtServiceBenchmarkTest {
+    private static final String SECRET_KEY = "9b3fb1beefa51b0d2e4f0ef0b03757a4db925c15be3f4f121aacfbda8d875b2d";
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("measure per-request token validation cost with and without the verified-token cache")
+    void measureTokenValidation() {
+        JwtService jwtService = new JwtService(SECRET_KEY, 3600000, 10000);
+        Member member = Member.builder().email("benchmark@mail.com").build();
+        String token = jwtService.generateToken(member);
+
+        Function<String, Claims> uncached = jwt -> Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+
+        double before = measure(() -> {
+            Claims subject = uncached.apply(token);
+            Claims expiration = uncached.apply(token);
+            return subject.getSubject().equals(member.getUsername()) && expiration.getExpiration() != null;
+        });
+        double after = measure(() -> {
+            return jwtService.isTokenValid(jwtService.verify(token), member);
+        });
+
+        System.out.printf("token validation: %.0f ns/request before (two parses, key rebuilt), %.0f ns/request after (cached verified token)%n",
+                before, after);
+
+        assertThat(after).isLessThan(before);
+    }
+
+    private double measure(BooleanSupplier validation) {
+        boolean valid = true;
+        for (int i = 0; i < WARMUP; i++) {
+            valid &= validation.getAsBoolean();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            valid &= validation.getAsBoolean();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        assertThat(valid).isTrue();
+        return (double) elapsed / ITERATIONS;
+    }
+}
@@ -0,0 +1,105 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.model.entity.Member;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+    private static final String SECRET_KEY = "9b3fb1beefa51b0d2e4f0ef0b03757a4db925c15be3f4f121aacfbda8d875b2d";
+
+    private JwtService jwtService;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET_KEY, 3600000, 100);
+        member = Member.builder()
+                .id(7L)
+                .email("member@mail.com")
+                .fullName("Member Satu")
+                .password("encoded")
+                .isActive(true)
+                .isDeleted(false)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Extract Claims Tests")
+    class ExtractClaimsTests {
+
+        @Test
+        @DisplayName("verify - should return the verified subject and expiry of a token")
+        void verify_ShouldReturnVerifiedToken() {
+            String token = jwtService.generateToken(member);
+
+            JwtService.VerifiedToken verified = jwtService.verify(token);
+
+            assertThat(verified.subject()).isEqualTo("member@mail.com");
+            assertThat(verified.expiresAt()).isAfter(Instant.now());
+            assertThat(jwtService.isTokenValid(verified, member)).isTrue();
+        }
+
+        @Test
+        @DisplayName("generateToken - should carry the member id and active flag")
+        void generateToken_ShouldCarryMemberIdAndActiveFlag() {
+            JwtService.VerifiedToken verified = jwtService.verify(jwtService.generateToken(member));
+
+            assertThat(verified.memberId()).isEqualTo(7L);
+            assertThat(verified.active()).isTrue();
+        }
+
+        @Test
+        @DisplayName("verify - should reuse the verified token for a repeated token")
+        void verify_ShouldReuseVerifiedToken() {
+            String token = jwtService.generateToken(member);
+
+            JwtService.VerifiedToken first = jwtService.verify(token);
+            JwtService.VerifiedToken second = jwtService.verify(token);
+
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("verify - should reject a token with a tampered signature")
+        void verify_ShouldRejectTamperedToken() {
+            String token = jwtService.generateToken(member);
+            String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+            assertThatThrownBy(() -> jwtService.verify(tampered))
+                    .isInstanceOf(SignatureException.class);
+        }
+
+        @Test
+        @DisplayName("verify - should reject an expired token")
+        void verify_ShouldRejectExpiredToken() {
+            JwtService expiringService = new JwtService(SECRET_KEY, -1000, 100);
+            String token = expiringService.generateToken(member);
+
+            assertThatThrownBy(() -> expiringService.verify(token))
+                    .isInstanceOf(ExpiredJwtException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Token Validity Tests")
+    class TokenValidityTests {
+
+        @Test
+        @DisplayName("isTokenValid - should be false for another member")
+        void isTokenValid_ShouldBeFalse_ForAnotherMember() {
+            String token = jwtService.generateToken(member);
+            Member other = Member.builder().email("other@mail.com").build();
+
+            assertThat(jwtService.isTokenValid(token, other)).isFalse();
+        }
+    }
+}
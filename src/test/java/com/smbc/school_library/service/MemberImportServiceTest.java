@@ -0,0 +1,57 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.response.ImportResultDto;
+import com.smbc.school_library.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class MemberImportServiceTest {
+
+    @Autowired
+    private MemberImportService memberImportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("importMembers - should register roster rows hashed at the calibrated strength and reject duplicates")
+    void importMembers_ShouldRegisterRosterRows() throws Exception {
+        String csv = """
+                email,password,fullName
+                import1@mail.com,secret1,Siswa Satu
+                import2@mail.com,secret2,"Siswa, Dua"
+                import1@mail.com,secret3,Siswa Tiga
+                import4@mail.com,,Siswa Empat
+                """;
+        memberImportService.importMembers(new ByteArrayInputStream(
+                "email,password,fullName\nimport2@mail.com,secret2,Siswa Dua\n".getBytes(StandardCharsets.UTF_8)));
+
+        ImportResultDto result = memberImportService.importMembers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))).getData();
+
+        assertThat(result.getAccepted()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(memberRepository.findByEmail("import1@mail.com"))
+                .hasValueSatisfying(member -> {
+                    assertThat(member.getFullName()).isEqualTo("Siswa Satu");
+                    assertThat(passwordEncoder.matches("secret1", member.getPassword())).isTrue();
+                    assertThat(passwordEncoder.upgradeEncoding(member.getPassword())).isFalse();
+                });
+    }
+}
@@ -0,0 +1,67 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.model.MemberPrincipal;
+import com.smbc.school_library.model.entity.Member;
+import com.smbc.school_library.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberPrincipalServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberPrincipalService memberPrincipalService;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        memberPrincipalService = new MemberPrincipalService(memberRepository, 100, 60000);
+        member = Member.builder()
+                .id(1L)
+                .email("member1@mail.com")
+                .fullName("Member Satu")
+                .isActive(true)
+                .isDeleted(false)
+                .build();
+    }
+
+    @Test
+    @DisplayName("loadPrincipal - should query the database once for repeated lookups")
+    void loadPrincipal_ShouldQueryOnce_ForRepeatedLookups() {
+        when(memberRepository.findByEmail("member1@mail.com")).thenReturn(Optional.of(member));
+
+        MemberPrincipal first = memberPrincipalService.loadPrincipal("member1@mail.com");
+        MemberPrincipal second = memberPrincipalService.loadPrincipal("member1@mail.com");
+
+        assertThat(first).isEqualTo(new MemberPrincipal(1L, "member1@mail.com", true));
+        assertThat(second).isSameAs(first);
+        verify(memberRepository, times(1)).findByEmail("member1@mail.com");
+    }
+
+    @Test
+    @DisplayName("loadPrincipal - should reload the member after evict")
+    void loadPrincipal_ShouldReload_AfterEvict() {
+        when(memberRepository.findByEmail("member1@mail.com"))
+                .thenReturn(Optional.of(member))
+                .thenReturn(Optional.empty());
+
+        memberPrincipalService.loadPrincipal("member1@mail.com");
+        memberPrincipalService.evict("member1@mail.com");
+
+        assertThatThrownBy(() -> memberPrincipalService.loadPrincipal("member1@mail.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+}
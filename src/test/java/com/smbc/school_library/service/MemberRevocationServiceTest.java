@@ -0,0 +1,52 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberRevocationServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberRevocationService memberRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        memberRevocationService = new MemberRevocationService(memberRepository, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("rebuild - should revoke deleted and inactive members loaded from the database")
+    void rebuild_ShouldRevokeStoredMembers() {
+        when(memberRepository.findRevokedMemberIds()).thenReturn(List.of(3L, 7L));
+
+        memberRevocationService.rebuild();
+
+        assertThat(memberRevocationService.isRevoked(3L)).isTrue();
+        assertThat(memberRevocationService.isRevoked(7L)).isTrue();
+        assertThat(memberRevocationService.isRevoked(5L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("revoke - should reject only revoked members across many ids")
+    void revoke_ShouldRejectOnlyRevokedMembers() {
+        for (long memberId = 0; memberId < 1000; memberId += 2) {
+            memberRevocationService.revoke(memberId);
+        }
+
+        for (long memberId = 0; memberId < 1000; memberId++) {
+            assertThat(memberRevocationService.isRevoked(memberId)).isEqualTo(memberId % 2 == 0);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.smbc.school_library.dto.response.MemberResponseDto;
 import com.smbc.school_library.exception.ResourceNotFoundException;
 import com.smbc.school_library.model.entity.Member;
 import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.util.TableVersions;
 import com.smbc.school_library.util.MemberMapper;
 import com.smbc.school_library.util.PageUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +41,18 @@ class MemberServiceTest {
     @Mock
     private MemberMapper memberMapper;
 
+    @Mock
+    private MemberPrincipalService memberPrincipalService;
+
+    @Mock
+    private MemberRevocationService memberRevocationService;
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private TableVersions tableVersions;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -188,6 +201,36 @@ class MemberServiceTest {
             verify(memberRepository).save(argThat(saved -> Boolean.TRUE.equals(saved.getIsDeleted())));
         }
 
+        @Test
+        @DisplayName("should evict the cached principal of the deleted member")
+        void shouldEvictCachedPrincipal() {
+            when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+            memberService.deleteMember(1L);
+
+            verify(memberPrincipalService).evict("member1@mail.com");
+        }
+
+        @Test
+        @DisplayName("should add the deleted member to the revocation set")
+        void shouldRevokeDeletedMember() {
+            when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+            memberService.deleteMember(1L);
+
+            verify(memberRevocationService).revoke(1L);
+        }
+
+        @Test
+        @DisplayName("should evict the deleted member from the second-level cache")
+        void shouldEvictDeletedMemberFromCache() {
+            when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+            memberService.deleteMember(1L);
+
+            verify(cacheService).evictAfterCommit(Member.class, 1L);
+        }
+
         @Test
         @DisplayName("should throw ResourceNotFoundException when member does not exist")
         void shouldThrowResourceNotFoundException_WhenMemberNotFound() {
@@ -281,6 +324,17 @@ class MemberServiceTest {
             verify(memberRepository, never()).save(any());
         }
 
+        @Test
+        @DisplayName("should evict the cached principal of the edited member")
+        void shouldEvictCachedPrincipal() {
+            when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+            when(memberMapper.mapToDto(member)).thenReturn(memberResponseDto);
+
+            memberService.editMember(1L, editRequest);
+
+            verify(memberPrincipalService).evict("member1@mail.com");
+        }
+
         @Test
         @DisplayName("should delegate response mapping to MemberMapper")
         void shouldDelegateMappingToMemberMapper() {
@@ -0,0 +1,103 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.request.RentRequestDto;
+import com.smbc.school_library.exception.ResourceNotFoundException;
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.model.entity.Member;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class RentServiceConcurrencyTest {
+    private static final int STOCK = 10;
+    private static final int REQUESTS = 40;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private RentService rentService;
+
+    @Autowired
+    private CatalogRepository catalogRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("rentBook - parallel checkouts of one catalog should never oversell")
+    void rentBook_ShouldNeverOversell_UnderParallelCheckouts() throws Exception {
+        Member member = memberRepository.save(Member.builder()
+                .email("concurrency@mail.com")
+                .password("encoded")
+                .fullName("Member Concurrency")
+                .isActive(true)
+                .isDeleted(false)
+                .build());
+        Catalog catalog = catalogRepository.save(Catalog.builder()
+                .title("Buku Populer")
+                .author("Author Populer")
+                .publisher("Publisher Populer")
+                .isbn("978-0132350884")
+                .normalizedIsbn("9780132350884")
+                .totalQty(STOCK)
+                .availableQty(STOCK)
+                .isDeleted(false)
+                .build());
+
+        RentRequestDto request = RentRequestDto.builder()
+                .memberId(member.getId())
+                .catalogId(catalog.getId())
+                .rentDate(LocalDate.now())
+                .dueDate(LocalDate.now().plusDays(7))
+                .build();
+
+        AtomicInteger rented = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    rentService.rentBook(request);
+                    rented.incrementAndGet();
+                } catch (ResourceNotFoundException ex) {
+                    soldOut.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(rented.get()).isEqualTo(STOCK);
+        assertThat(soldOut.get()).isEqualTo(REQUESTS - STOCK);
+        assertThat(catalogRepository.findById(catalog.getId()))
+                .hasValueSatisfying(reloaded -> assertThat(reloaded.getAvailableQty()).isZero());
+    }
+}
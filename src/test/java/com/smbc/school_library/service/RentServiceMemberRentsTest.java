@@ -0,0 +1,113 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.response.RentResponseDto;
+import com.smbc.school_library.exception.ResourceNotFoundException;
+import com.smbc.school_library.model.RentStatus;
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.model.entity.Member;
+import com.smbc.school_library.model.entity.Rent;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.repository.RentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RentServiceMemberRentsTest {
+
+    @Autowired
+    private RentService rentService;
+
+    @Autowired
+    private RentRepository rentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CatalogRepository catalogRepository;
+
+    @Test
+    @DisplayName("getMemberRents - should page a member's rents newest first and honour the status filter")
+    void getMemberRents_ShouldPageNewestFirst_WithStatusFilter() {
+        Member member = saveMember("history@mail.com");
+        Member otherMember = saveMember("history-other@mail.com");
+        Catalog catalog = catalogRepository.save(Catalog.builder()
+                .title("Buku Riwayat")
+                .author("Author Riwayat")
+                .publisher("Publisher Riwayat")
+                .isbn("9785555555555")
+                .normalizedIsbn("9785555555555")
+                .totalQty(10)
+                .availableQty(7)
+                .isDeleted(false)
+                .build());
+        LocalDate today = LocalDate.now();
+        List<Rent> rents = rentRepository.saveAll(List.of(
+                rent(member, catalog, today.minusDays(30), today.minusDays(20)),
+                rent(member, catalog, today.minusDays(10), null),
+                rent(member, catalog, today.minusDays(10), null),
+                rent(member, catalog, today.minusDays(2), null),
+                rent(otherMember, catalog, today.minusDays(1), null)));
+
+        List<Long> pagedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            ApiResponse<List<RentResponseDto>> page = rentService.getMemberRents(member.getId(), RentStatus.ALL, cursor, 3);
+            page.getData().forEach(rent -> pagedIds.add(rent.getId()));
+            cursor = page.getPagination().getNextCursor();
+        } while (cursor != null);
+
+        assertThat(pagedIds).containsExactly(rents.get(3).getId(), rents.get(2).getId(), rents.get(1).getId(), rents.get(0).getId());
+        assertThat(rentService.getMemberRents(member.getId(), RentStatus.RETURNED, null, 10).getData())
+                .singleElement()
+                .satisfies(rent -> {
+                    assertThat(rent.getId()).isEqualTo(rents.get(0).getId());
+                    assertThat(rent.getCatalog().getTitle()).isEqualTo("Buku Riwayat");
+                    assertThat(rent.getMember().getEmail()).isEqualTo("history@mail.com");
+                });
+        assertThat(rentService.getMemberRents(member.getId(), RentStatus.ACTIVE, null, 10).getData()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("getMemberRents - should throw ResourceNotFoundException for an unknown member")
+    void getMemberRents_ShouldThrow_WhenMemberNotFound() {
+        assertThatThrownBy(() -> rentService.getMemberRents(Long.MAX_VALUE, RentStatus.ALL, null, 10))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Member not found with id: " + Long.MAX_VALUE);
+    }
+
+    private Member saveMember(String email) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .password("encoded")
+                .fullName("Member Riwayat")
+                .isActive(true)
+                .isDeleted(false)
+                .build());
+    }
+
+    private Rent rent(Member member, Catalog catalog, LocalDate rentDate, LocalDate returnDate) {
+        return Rent.builder()
+                .member(member)
+                .catalog(catalog)
+                .rentDate(rentDate)
+                .dueDate(rentDate.plusDays(7))
+                .returnDate(returnDate)
+                .build();
+    }
+}
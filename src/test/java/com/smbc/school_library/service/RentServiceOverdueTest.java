@@ -0,0 +1,89 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.response.RentResponseDto;
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.model.entity.Member;
+import com.smbc.school_library.model.entity.Rent;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.repository.RentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RentServiceOverdueTest {
+
+    @Autowired
+    private RentService rentService;
+
+    @Autowired
+    private RentRepository rentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CatalogRepository catalogRepository;
+
+    @Test
+    @DisplayName("getOverdueRents - should page through open overdue rents ordered by due date")
+    void getOverdueRents_ShouldPageThroughOpenOverdueRents() {
+        Member member = memberRepository.save(Member.builder()
+                .email("overdue@mail.com")
+                .password("encoded")
+                .fullName("Member Overdue")
+                .isActive(true)
+                .isDeleted(false)
+                .build());
+        Catalog catalog = catalogRepository.save(Catalog.builder()
+                .title("Buku Overdue")
+                .author("Author Overdue")
+                .publisher("Publisher Overdue")
+                .isbn("9784444444444")
+                .normalizedIsbn("9784444444444")
+                .totalQty(10)
+                .availableQty(5)
+                .isDeleted(false)
+                .build());
+        LocalDate today = LocalDate.now();
+        List<Rent> rents = rentRepository.saveAll(List.of(
+                rent(member, catalog, today.minusDays(3), null),
+                rent(member, catalog, today.minusDays(10), null),
+                rent(member, catalog, today.minusDays(3), null),
+                rent(member, catalog, today.minusDays(5), today.minusDays(1)),
+                rent(member, catalog, today.plusDays(2), null)));
+
+        List<Long> pagedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            ApiResponse<List<RentResponseDto>> page = rentService.getOverdueRents(cursor, 2);
+            page.getData().forEach(rent -> pagedIds.add(rent.getId()));
+            cursor = page.getPagination().getNextCursor();
+        } while (cursor != null);
+
+        assertThat(pagedIds).containsExactly(rents.get(1).getId(), rents.get(0).getId(), rents.get(2).getId());
+    }
+
+    private Rent rent(Member member, Catalog catalog, LocalDate dueDate, LocalDate returnDate) {
+        return Rent.builder()
+                .member(member)
+                .catalog(catalog)
+                .rentDate(dueDate.minusDays(7))
+                .dueDate(dueDate)
+                .returnDate(returnDate)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.dto.ApiResponse;
+import com.smbc.school_library.dto.request.PageRequestDto;
+import com.smbc.school_library.dto.response.RentResponseDto;
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.model.entity.Member;
+import com.smbc.school_library.model.entity.Rent;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.repository.RentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RentServiceQueryCountTest {
+    private static final int RENT_COUNT = 30;
+
+    @Autowired
+    private RentService rentService;
+
+    @Autowired
+    private RentRepository rentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CatalogRepository catalogRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Rent> rents = new ArrayList<>();
+        for (int i = 0; i < RENT_COUNT; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .email("query-count-" + i + "@mail.com")
+                    .password("encoded")
+                    .fullName("Member " + i)
+                    .isActive(true)
+                    .isDeleted(false)
+                    .build());
+            Catalog catalog = catalogRepository.save(Catalog.builder()
+                    .title("Buku " + i)
+                    .author("Author " + i)
+                    .publisher("Publisher " + i)
+                    .isbn("978-00000001" + String.format("%02d", i))
+                    .totalQty(1)
+                    .availableQty(0)
+                    .isDeleted(false)
+                    .build());
+            rents.add(Rent.builder()
+                    .member(member)
+                    .catalog(catalog)
+                    .rentDate(LocalDate.now())
+                    .dueDate(LocalDate.now().plusDays(7))
+                    .build());
+        }
+        rentRepository.saveAllAndFlush(rents);
+        entityManager.clear();
+    }
+
+    @ParameterizedTest(name = "pageSize={0}")
+    @ValueSource(ints = {5, 25})
+    @DisplayName("getRents - should load a page with its members and catalogs in a fixed number of statements")
+    void getRents_ShouldUseFixedStatementCount_RegardlessOfPageSize(int pageSize) {
+        statistics.clear();
+
+        ApiResponse<List<RentResponseDto>> response = rentService.getRents(PageRequestDto.builder()
+                .page(0)
+                .pageSize(pageSize)
+                .build());
+
+        assertThat(response.getData()).hasSize(pageSize);
+        assertThat(response.getData()).allSatisfy(rent -> {
+            assertThat(rent.getMember()).isNotNull();
+            assertThat(rent.getCatalog()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getRents - should load a cursor page with a single statement")
+    void getRents_ShouldUseSingleStatement_InCursorMode() {
+        statistics.clear();
+
+        ApiResponse<List<RentResponseDto>> response = rentService.getRents(PageRequestDto.builder()
+                .page(0)
+                .pageSize(25)
+                .mode(PageRequestDto.PageMode.CURSOR)
+                .build());
+
+        assertThat(response.getData()).hasSize(25);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,126 @@
+package com.smbc.school_library.service;
+
+import com.smbc.school_library.exception.ResourceExistException;
+import com.smbc.school_library.exception.ResourceNotFoundException;
+import com.smbc.school_library.model.entity.Catalog;
+import com.smbc.school_library.model.entity.Rent;
+import com.smbc.school_library.repository.CatalogRepository;
+import com.smbc.school_library.repository.MemberRepository;
+import com.smbc.school_library.repository.RentRepository;
+import com.smbc.school_library.util.RentMapper;
+import com.smbc.school_library.util.RowCountCache;
+import com.smbc.school_library.util.TableVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RentServiceTest {
+
+    @Mock
+    private RentRepository rentRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private CatalogRepository catalogRepository;
+
+    @Mock
+    private RentMapper rentMapper;
+
+    @Mock
+    private RowCountCache rowCountCache;
+
+    @Mock
+    private CatalogSearchService catalogSearchService;
+
+    @Mock
+    private TableVersions tableVersions;
+
+    @InjectMocks
+    private RentService rentService;
+
+    private Rent rent;
+
+    @BeforeEach
+    void setUp() {
+        rent = Rent.builder()
+                .id(1L)
+                .catalog(Catalog.builder().id(5L).build())
+                .rentDate(LocalDate.now().minusDays(3))
+                .dueDate(LocalDate.now().plusDays(4))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("returnBook()")
+    class ReturnBook {
+
+        @Test
+        @DisplayName("should release a copy and bump catalog and rent versions")
+        void shouldReleaseCopy_AndBumpVersions() {
+            when(rentRepository.markReturned(eq(1L), any(LocalDate.class))).thenReturn(1);
+            when(rentRepository.findById(1L)).thenReturn(Optional.of(rent));
+            when(catalogRepository.releaseCopy(5L)).thenReturn(1);
+
+            rentService.returnBook(1L);
+
+            verify(catalogSearchService).index(rent.getCatalog());
+            verify(tableVersions).bump(TableVersions.CATALOG);
+            verify(tableVersions).bump(TableVersions.RENT);
+        }
+
+        @Test
+        @DisplayName("should throw ResourceExistException when the rent was already returned")
+        void shouldThrowResourceExistException_WhenAlreadyReturned() {
+            when(rentRepository.markReturned(eq(1L), any(LocalDate.class))).thenReturn(0);
+            when(rentRepository.existsById(1L)).thenReturn(true);
+
+            assertThatThrownBy(() -> rentService.returnBook(1L))
+                    .isInstanceOf(ResourceExistException.class)
+                    .hasMessage("Book has already been returned for this rent");
+            verify(catalogRepository, never()).releaseCopy(any());
+        }
+
+        @Test
+        @DisplayName("should throw ResourceNotFoundException when the catalog no longer exists")
+        void shouldThrowResourceNotFoundException_WhenCatalogMissing() {
+            when(rentRepository.markReturned(eq(1L), any(LocalDate.class))).thenReturn(1);
+            when(rentRepository.findById(1L)).thenReturn(Optional.of(rent));
+            when(catalogRepository.releaseCopy(5L)).thenReturn(0);
+            when(catalogRepository.existsById(5L)).thenReturn(false);
+
+            assertThatThrownBy(() -> rentService.returnBook(1L))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Catalog not found with id: 5");
+            verify(tableVersions, never()).bump(any());
+        }
+
+        @Test
+        @DisplayName("should throw ResourceExistException when every copy is already in stock")
+        void shouldThrowResourceExistException_WhenStockAlreadyFull() {
+            when(rentRepository.markReturned(eq(1L), any(LocalDate.class))).thenReturn(1);
+            when(rentRepository.findById(1L)).thenReturn(Optional.of(rent));
+            when(catalogRepository.releaseCopy(5L)).thenReturn(0);
+            when(catalogRepository.existsById(5L)).thenReturn(true);
+
+            assertThatThrownBy(() -> rentService.returnBook(1L))
+                    .isInstanceOf(ResourceExistException.class)
+                    .hasMessage("All copies of this book are already in stock");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.smbc.school_library.util;
+
+import com.smbc.school_library.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedPasswordEncoderTest {
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("matches - should verify hashes produced on the hashing pool")
+    void matches_ShouldVerifyEncodedPassword() {
+        encoder = new BoundedPasswordEncoder(4, 2, 4);
+
+        String encoded = encoder.encode("member1");
+
+        assertThat(encoder.matches("member1", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding - should request a rehash when the stored cost differs")
+    void upgradeEncoding_ShouldDetectCostChange() {
+        encoder = new BoundedPasswordEncoder(5, 1, 1);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("member1"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("member1"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("member1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("encode - should reject work beyond the pool and queue with ServiceBusyException")
+    void encode_ShouldRejectWhenSaturated() throws Exception {
+        encoder = new BoundedPasswordEncoder(12, 1, 1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(() -> {
+                try {
+                    encoder.encode("member1");
+                    return true;
+                } catch (ServiceBusyException ex) {
+                    return false;
+                }
+            }));
+        }
+
+        long rejected = 0;
+        for (Future<Boolean> result : results) {
+            if (!result.get(60, TimeUnit.SECONDS)) {
+                rejected++;
+            }
+        }
+        callers.shutdown();
+
+        assertThat(rejected).isGreaterThan(0);
+    }
+}
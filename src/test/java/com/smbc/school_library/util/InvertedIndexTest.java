@@ -0,0 +1,53 @@
+package com.smbc.school_library.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+    private InvertedIndex invertedIndex;
+
+    @BeforeEach
+    void setUp() {
+        invertedIndex = new InvertedIndex();
+        invertedIndex.put(1L, Map.of("clean", 3, "code", 3, "martin", 2));
+        invertedIndex.put(2L, Map.of("clean", 3, "architecture", 3, "martin", 2));
+        invertedIndex.put(3L, Map.of("refactoring", 3, "fowler", 2));
+    }
+
+    @Test
+    @DisplayName("search - should rank documents matching more and rarer terms first")
+    void search_ShouldRankByWeightedIdf() {
+        assertThat(invertedIndex.search(List.of("clean", "code"))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("search - should prefer the field weight when terms are equally rare")
+    void search_ShouldPreferHeavierField() {
+        invertedIndex.put(4L, Map.of("fowler", 3));
+
+        assertThat(invertedIndex.search(List.of("fowler"))).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("search - should break score ties by ascending id and ignore unknown or repeated terms")
+    void search_ShouldBreakTiesById() {
+        assertThat(invertedIndex.search(List.of("martin", "martin", "unknown"))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("put and remove - should replace a document's terms and drop removed documents")
+    void putAndRemove_ShouldKeepPostingsInSync() {
+        invertedIndex.put(1L, Map.of("dirty", 3));
+        invertedIndex.remove(2L);
+
+        assertThat(invertedIndex.search(List.of("clean"))).isEmpty();
+        assertThat(invertedIndex.search(List.of("dirty"))).containsExactly(1L);
+        assertThat(invertedIndex.search(List.of("martin"))).isEmpty();
+    }
+}
@@ -0,0 +1,37 @@
+package com.smbc.school_library.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IsbnUtilTest {
+
+    @Test
+    @DisplayName("normalize - should compact ISBN-13 and convert ISBN-10 to ISBN-13")
+    void normalize_ShouldCompactAndConvert() {
+        assertThat(IsbnUtil.normalize("978-0-13-235088-4")).isEqualTo("9780132350884");
+        assertThat(IsbnUtil.normalize("0-13-235088-2")).isEqualTo("9780132350884");
+        assertThat(IsbnUtil.normalize("0-8044-2957-x")).isEqualTo("9780804429573");
+    }
+
+    @Test
+    @DisplayName("isValid - should reject wrong lengths, bad check digits and stray characters")
+    void isValid_ShouldRejectMalformedIsbns() {
+        assertThat(IsbnUtil.isValid("123-456")).isFalse();
+        assertThat(IsbnUtil.isValid("9780132350885")).isFalse();
+        assertThat(IsbnUtil.isValid("0-13-235088-3")).isFalse();
+        assertThat(IsbnUtil.isValid("X-13-235088-2")).isFalse();
+        assertThat(IsbnUtil.isValid("ISBN 9780132350884")).isFalse();
+        assertThat(IsbnUtil.isValid(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("normalize - should throw IllegalArgumentException for an invalid ISBN")
+    void normalize_ShouldThrow_WhenIsbnInvalid() {
+        assertThatThrownBy(() -> IsbnUtil.normalize("9780132350885"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid ISBN: 9780132350885");
+    }
+}
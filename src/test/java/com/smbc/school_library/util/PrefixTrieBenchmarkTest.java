@@ -0,0 +1,61 @@
+package com.smbc.school_library.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PrefixTrieBenchmarkTest {
+    private static final int TITLE_COUNT = 1_000_000;
+    private static final String[] WORDS = {
+            "the", "history", "of", "science", "introduction", "to", "modern", "mathematics", "world",
+            "programming", "java", "stories", "children", "guide", "complete", "art", "design", "physics",
+            "chemistry", "biology", "and", "in", "a", "journey", "letters", "secret", "garden", "ocean"
+    };
+
+    @Test
+    @DisplayName("measure suggestion trie footprint and lookup latency for one million titles")
+    void measureFootprint_ForOneMillionTitles() {
+        Random random = new Random(42);
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        PrefixTrie trie = new PrefixTrie();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < TITLE_COUNT; i++) {
+            StringBuilder title = new StringBuilder();
+            int words = 2 + random.nextInt(5);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    title.append(' ');
+                }
+                title.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            title.append(' ').append(i);
+            trie.add(title.toString(), i);
+        }
+        long buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        int lookups = 100_000;
+        startedAt = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            trie.findByPrefix(word.substring(0, 1 + random.nextInt(word.length())), 10);
+        }
+        long lookupNanos = (System.nanoTime() - startedAt) / lookups;
+
+        System.out.printf("PrefixTrie: %,d titles, %,d nodes, ~%,d MB estimated, ~%,d MB heap delta, built in %,d ms, %,d ns per lookup%n",
+                TITLE_COUNT, trie.nodeCount(), trie.estimatedSizeInBytes() / (1024 * 1024),
+                (heapAfter - heapBefore) / (1024 * 1024), buildMillis, lookupNanos);
+
+        assertThat(trie.findByPrefix("the", 10)).hasSize(10);
+    }
+}
@@ -0,0 +1,76 @@
+package com.smbc.school_library.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+    private PrefixTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie();
+        trie.add("harry potter and the chamber of secrets", 1);
+        trie.add("harry potter and the goblet of fire", 2);
+        trie.add("hat", 3);
+        trie.add("harry potter", 4);
+        trie.add("ham", 5);
+        trie.add("history", 6);
+    }
+
+    @Test
+    @DisplayName("findByPrefix - should return shorter completions first, then alphabetical order")
+    void findByPrefix_ShouldRankByLengthThenAlphabetically() {
+        assertThat(trie.findByPrefix("ha", 10)).containsExactly(5L, 3L, 4L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("findByPrefix - should stop at the limit with the best ranked completions")
+    void findByPrefix_ShouldHonourLimit() {
+        assertThat(trie.findByPrefix("h", 3)).containsExactly(5L, 3L, 6L);
+        assertThat(trie.findByPrefix("zzz", 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findByPrefix - should skip filtered values without shrinking the result below the limit")
+    void findByPrefix_ShouldFillLimit_WhenValuesAreFiltered() {
+        assertThat(trie.findByPrefix("ha", 2, value -> value != 5L)).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("remove - should drop only the given value for a key")
+    void remove_ShouldDropOnlyGivenValue() {
+        trie.add("hat", 7);
+        trie.remove("hat", 3);
+        trie.remove("harry potter", 99);
+
+        assertThat(trie.findByPrefix("ha", 10)).containsExactly(5L, 7L, 4L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("remove - should prune nodes left without values or children")
+    void remove_ShouldPruneEmptyBranch() {
+        long nodes = trie.nodeCount();
+
+        trie.remove("history", 6);
+        assertThat(trie.nodeCount()).isEqualTo(nodes - "istory".length());
+
+        trie.remove("harry potter", 4);
+        assertThat(trie.nodeCount()).isEqualTo(nodes - "istory".length());
+        assertThat(trie.findByPrefix("harry", 10)).containsExactly(2L, 1L);
+
+        trie.add("hi", 8);
+        assertThat(trie.findByPrefix("h", 10)).containsExactly(8L, 5L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("clear - should remove every key")
+    void clear_ShouldRemoveEveryKey() {
+        trie.clear();
+
+        assertThat(trie.findByPrefix("h", 10)).isEmpty();
+        assertThat(trie.nodeCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.smbc.school_library.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowCountCacheTest {
+
+    @Test
+    @DisplayName("get - should count once and serve the cached value afterwards")
+    void get_ShouldCacheCount() {
+        RowCountCache cache = new RowCountCache();
+        AtomicInteger counts = new AtomicInteger();
+
+        assertThat(cache.get("catalog", () -> (long) counts.incrementAndGet() * 10)).isEqualTo(10);
+        assertThat(cache.get("catalog", () -> (long) counts.incrementAndGet() * 10)).isEqualTo(10);
+        assertThat(counts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get - should not block other callers while a slow count is running")
+    void get_ShouldNotBlock_WhileSlowCountRuns() throws Exception {
+        RowCountCache cache = new RowCountCache();
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Long> slow = executor.submit(() -> cache.get("catalog", () -> {
+                slowStarted.countDown();
+                await(release);
+                return 99L;
+            }));
+            assertThat(slowStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<Long> fast = executor.submit(() -> cache.get("catalog", () -> 7L));
+            assertThat(fast.get(5, TimeUnit.SECONDS)).isEqualTo(7);
+            release.countDown();
+
+            // The first published count wins so every caller sees the same value
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo(7);
+        }
+    }
+
+    @Test
+    @DisplayName("refresh - should bump the version only when a count changes")
+    void refresh_ShouldBumpVersion_WhenCountChanges() {
+        RowCountCache cache = new RowCountCache();
+        AtomicInteger rows = new AtomicInteger(5);
+        cache.get("member", () -> (long) rows.get());
+
+        cache.refresh();
+        assertThat(cache.version()).isZero();
+
+        rows.set(6);
+        cache.refresh();
+        assertThat(cache.version()).isEqualTo(1);
+        assertThat(cache.get("member", () -> 0L)).isEqualTo(6);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
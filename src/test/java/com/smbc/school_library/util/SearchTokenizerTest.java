@@ -0,0 +1,31 @@
+package com.smbc.school_library.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("tokenize - should lowercase and split on anything that is not a letter or digit")
+    void tokenize_ShouldLowercaseAndSplitOnPunctuation() {
+        assertThat(SearchTokenizer.tokenize("Harry Potter & the Half-Blood Prince (2005)"))
+                .containsExactly("harry", "potter", "the", "half", "blood", "prince", "2005");
+    }
+
+    @Test
+    @DisplayName("tokenize - should return no tokens for null or punctuation-only text")
+    void tokenize_ShouldReturnEmpty_ForNullOrPunctuation() {
+        assertThat(SearchTokenizer.tokenize(null)).isEmpty();
+        assertThat(SearchTokenizer.tokenize(" -- ,, ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("compact - should strip separators so hyphenated and plain isbns match")
+    void compact_ShouldStripSeparators() {
+        assertThat(SearchTokenizer.compact("978-0-13-235088-4")).isEqualTo("9780132350884");
+        assertThat(SearchTokenizer.compact("0-306-40615-X")).isEqualTo("030640615x");
+        assertThat(SearchTokenizer.compact(null)).isEmpty();
+    }
+}
@@ -0,0 +1,23 @@
+package com.smbc.school_library.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TableVersionsTest {
+
+    @Test
+    @DisplayName("etag - should stay stable until one of its tables is bumped")
+    void etag_ShouldChange_OnlyWhenTableIsBumped() {
+        TableVersions tableVersions = new TableVersions();
+        String rentsEtag = tableVersions.etag(TableVersions.RENT, TableVersions.MEMBER, TableVersions.CATALOG);
+        String membersEtag = tableVersions.etag(TableVersions.MEMBER);
+
+        tableVersions.bump(TableVersions.CATALOG);
+
+        assertThat(tableVersions.etag(TableVersions.MEMBER)).isEqualTo(membersEtag);
+        assertThat(tableVersions.etag(TableVersions.RENT, TableVersions.MEMBER, TableVersions.CATALOG)).isNotEqualTo(rentsEtag);
+        assertThat(tableVersions.current(TableVersions.CATALOG)).isEqualTo(1L);
+    }
+}
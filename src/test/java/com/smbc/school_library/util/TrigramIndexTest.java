@@ -0,0 +1,60 @@
+package com.smbc.school_library.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+    private TrigramIndex trigramIndex;
+
+    @BeforeEach
+    void setUp() {
+        trigramIndex = new TrigramIndex();
+        put(1L, "The Dune Chronicles Complete Illustrated Collectors Edition", "Various Authors");
+        put(2L, "Dune", "Frank Herbert");
+        put(3L, "Harry Potter", "J. K. Rowling");
+        put(4L, "Dune Messiah", "Frank Herbert");
+    }
+
+    @Test
+    @DisplayName("search - should recall titles despite a misspelling")
+    void search_ShouldRecallMisspelledTitles() {
+        assertThat(trigramIndex.search("harry poter", 0.3, 10, 100)).containsExactly(3L);
+        assertThat(trigramIndex.search("frank herbrt", 0.3, 10, 100)).containsExactlyInAnyOrder(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("search - should score an exact short title above long titles that merely contain the query")
+    void search_ShouldRankCloserTitlesFirst() {
+        assertThat(trigramIndex.search("dune", 0.0, 10, 100)).containsExactly(2L, 4L, 1L);
+        assertThat(trigramIndex.search("dune", 0.3, 10, 100)).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("search - should cap results at the limit keeping the best matches")
+    void search_ShouldCapResultsAtLimit() {
+        assertThat(trigramIndex.search("dune", 0.0, 1, 100)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("search - should score no more than maxCandidates documents")
+    void search_ShouldBoundCandidates() {
+        assertThat(trigramIndex.search("dune", 0.0, 10, 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("remove - should drop a document from every posting")
+    void remove_ShouldDropDocument() {
+        trigramIndex.remove(2L);
+
+        assertThat(trigramIndex.search("dune", 0.0, 10, 100)).containsExactly(4L, 1L);
+    }
+
+    private void put(Long id, String title, String author) {
+        trigramIndex.put(id, List.of(TrigramIndex.trigrams(title), TrigramIndex.trigrams(author)));
+    }
+}
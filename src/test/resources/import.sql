@@ -0,0 +1 @@
+CREATE UNIQUE INDEX ux_catalog_normalized_isbn ON catalog (normalized_isbn);
@@ -0,0 +1,3 @@
+DELETE FROM rent;
+DELETE FROM catalog;
+DELETE FROM member;